@@ -0,0 +1,128 @@
+package org.moysha.managementservice.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.moysha.managementservice.ManagementServiceApplication;
+import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.domain.service.ServiceEntity;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.domain.service.ServiceType;
+import org.moysha.managementservice.domain.user.AppUserEntity;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Persists {@code rows} services per operation through JPA. {@code batchSize=1} reproduces the one
+ * round trip per row that IDENTITY ids forced; {@code batchSize=50} is the configured JDBC batching
+ * that pooled sequence ids allow. The {@code rows} and {@code statements} counters are normalized by
+ * time, so their ratio is the number of JDBC statements per inserted row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BulkInsertBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate transaction;
+    private JdbcTemplate jdbcTemplate;
+    private Statistics statistics;
+    private Long ownerId;
+    private Long categoryId;
+    // Titles are unique per owner, and one iteration runs many operations before the cleanup.
+    private long inserted;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+
+        public long rows;
+        public long statements;
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ManagementServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties("search.index.enabled=false", "spring.jpa.show-sql=false",
+                "spring.jpa.properties.hibernate.generate_statistics=true")
+            .run();
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        ownerId = jdbcTemplate.queryForObject("""
+            INSERT INTO app_user (token, email) VALUES ('bench-bulk-token', 'bench-bulk@example.com')
+            ON CONFLICT (email) DO UPDATE SET token = EXCLUDED.token
+            RETURNING id""", Long.class);
+        categoryId = jdbcTemplate.queryForObject("""
+            INSERT INTO category (name) VALUES ('bench-bulk-category')
+            ON CONFLICT (name) DO UPDATE SET name = EXCLUDED.name
+            RETURNING id""", Long.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInserted() {
+        jdbcTemplate.update("DELETE FROM service WHERE owner_id = ?", ownerId);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM app_user WHERE id = ?", ownerId);
+        jdbcTemplate.update("DELETE FROM category WHERE id = ?", categoryId);
+        context.close();
+    }
+
+    @Benchmark
+    public void persist(Counters counters) {
+        long before = statistics.getPrepareStatementCount();
+        transaction.executeWithoutResult(status -> {
+            EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            AppUserEntity owner = entityManager.getReference(AppUserEntity.class, ownerId);
+            CategoryEntity category = entityManager.getReference(CategoryEntity.class, categoryId);
+            for (int i = 0; i < rows; i++) {
+                ServiceEntity service = new ServiceEntity();
+                service.setOwner(owner);
+                service.setCategory(category);
+                service.setTitle("Bulk service " + (++inserted));
+                service.setDescription("Benchmark description");
+                service.setType(ServiceType.OFFER);
+                service.setStatus(ServiceStatus.ACTIVE);
+                service.setPrice(BigDecimal.TEN);
+                service.setBarter(false);
+                service.setPlace("Онлайн");
+                entityManager.persist(service);
+            }
+        });
+        counters.rows += rows;
+        counters.statements += statistics.getPrepareStatementCount() - before;
+    }
+}
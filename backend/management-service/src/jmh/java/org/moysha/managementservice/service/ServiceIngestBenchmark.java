@@ -0,0 +1,101 @@
+package org.moysha.managementservice.service;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import org.moysha.managementservice.ManagementServiceApplication;
+import org.moysha.managementservice.api.dto.IngestResultDto;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Uploads a CSV of {@code rows} services per operation through {@link ServiceIngestService}, staged
+ * with COPY in batches of {@code batchSize}. The {@code rows} counter is normalized by time, so it
+ * reads as ingested rows per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ServiceIngestBenchmark {
+
+    @Param({"20000"})
+    public int rows;
+
+    @Param({"500", "5000"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private ServiceIngestService ingestService;
+    private JdbcTemplate jdbcTemplate;
+    private Long ownerId;
+    private Long categoryId;
+    private String csv;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+
+        public long rows;
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ManagementServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties("search.index.enabled=false", "spring.jpa.show-sql=false",
+                "ingest.batch-size=" + batchSize, "ingest.max-rows=" + rows)
+            .run();
+        ingestService = context.getBean(ServiceIngestService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        ownerId = jdbcTemplate.queryForObject("""
+            INSERT INTO app_user (token, email) VALUES ('bench-ingest-token', 'bench-ingest@example.com')
+            ON CONFLICT (email) DO UPDATE SET token = EXCLUDED.token
+            RETURNING id""", Long.class);
+        categoryId = jdbcTemplate.queryForObject("""
+            INSERT INTO category (name) VALUES ('bench-ingest-category')
+            ON CONFLICT (name) DO UPDATE SET name = EXCLUDED.name
+            RETURNING id""", Long.class);
+        StringBuilder builder = new StringBuilder("ownerId,categoryId,title,description,type,price\n");
+        for (int i = 0; i < rows; i++) {
+            builder.append(ownerId).append(',').append(categoryId).append(",Услуга ").append(i)
+                .append(",Описание,offer,").append(i % 1000).append('\n');
+        }
+        csv = builder.toString();
+    }
+
+    // The same titles are uploaded every time, so each operation starts from an owner with no services.
+    // One operation takes far longer than the cleanup, which keeps per-invocation teardown honest.
+    @TearDown(Level.Invocation)
+    public void deleteInserted() {
+        jdbcTemplate.update("DELETE FROM service WHERE owner_id = ?", ownerId);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM app_user WHERE id = ?", ownerId);
+        jdbcTemplate.update("DELETE FROM category WHERE id = ?", categoryId);
+        context.close();
+    }
+
+    @Benchmark
+    public IngestResultDto ingest(Counters counters) {
+        IngestResultDto result = ingestService.ingestCsv(new StringReader(csv));
+        if (result.getCreated() != rows) {
+            throw new IllegalStateException("Created " + result.getCreated() + " of " + rows + ": " + result.getErrors());
+        }
+        counters.rows += rows;
+        return result;
+    }
+}
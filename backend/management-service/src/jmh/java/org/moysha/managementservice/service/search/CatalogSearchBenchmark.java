@@ -0,0 +1,115 @@
+package org.moysha.managementservice.service.search;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.moysha.managementservice.ManagementServiceApplication;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.config.SearchIndexSettings;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.domain.service.ServiceType;
+import org.moysha.managementservice.repository.ServiceRepository;
+import org.moysha.managementservice.service.ServiceCatalogService;
+import org.moysha.managementservice.service.dto.ServiceFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Compares the bitmap index with the SQL {@code Specification} path for structured filters.
+ * Seeds {@code services} rows into the database from DB_URL when it holds fewer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CatalogSearchBenchmark {
+
+    @Param({"100000"})
+    public int services;
+
+    @Param({"categoryTypeStatus", "priceRangeBarter"})
+    public String filter;
+
+    private ConfigurableApplicationContext context;
+    private ServiceCatalogService catalogService;
+    private ServiceSearchIndex bitmapIndex;
+    private ServiceFilter serviceFilter;
+    private final Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ManagementServiceApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties("search.index.enabled=false", "spring.jpa.show-sql=false")
+            .run();
+        seed(context.getBean(JdbcTemplate.class));
+        catalogService = context.getBean(ServiceCatalogService.class);
+
+        SearchIndexSettings settings = new SearchIndexSettings();
+        settings.setEnabled(true);
+        bitmapIndex = new ServiceSearchIndex(context.getBean(ServiceRepository.class), settings);
+        bitmapIndex.rebuild();
+
+        serviceFilter = switch (filter) {
+            case "categoryTypeStatus" -> new ServiceFilter(
+                null, 3L, ServiceType.OFFER, ServiceStatus.ACTIVE, null, null, null, null, null, null);
+            default -> new ServiceFilter(
+                null, null, null, ServiceStatus.ACTIVE, null, new BigDecimal("100.00"), new BigDecimal("900.00"),
+                true, null, null);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ServiceDto> specification() {
+        return catalogService.search(serviceFilter, pageable);
+    }
+
+    @Benchmark
+    public Page<ServiceDto> bitmapIndex() {
+        return bitmapIndex.search(serviceFilter, pageable).orElseThrow();
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Long existing = jdbcTemplate.queryForObject("SELECT count(*) FROM service", Long.class);
+        if (existing != null && existing >= services) {
+            return;
+        }
+        jdbcTemplate.update("""
+            INSERT INTO app_user (token, email)
+            SELECT 'bench-token-' || g, 'bench' || g || '@example.com' FROM generate_series(1, 1000) g
+            ON CONFLICT DO NOTHING""");
+        jdbcTemplate.update("""
+            INSERT INTO category (name)
+            SELECT 'bench-category-' || g FROM generate_series(1, 20) g
+            ON CONFLICT DO NOTHING""");
+        jdbcTemplate.update("""
+            INSERT INTO service (owner_id, category_id, title, description, status, type, price, barter, created_at)
+            SELECT u.id, c.id, 'Service ' || g, 'Benchmark description ' || g,
+                   (CASE WHEN g % 10 = 0 THEN 'archived' ELSE 'active' END)::service_status,
+                   (CASE WHEN g % 2 = 0 THEN 'offer' ELSE 'order' END)::service_type,
+                   (g % 1000)::numeric, g % 3 = 0, now() - g * interval '1 minute'
+            FROM generate_series(1, ?) g
+            JOIN LATERAL (SELECT id FROM app_user ORDER BY id OFFSET g % 1000 LIMIT 1) u ON true
+            JOIN LATERAL (SELECT id FROM category ORDER BY id OFFSET g % 20 LIMIT 1) c ON true""",
+            services - (existing == null ? 0 : existing));
+        jdbcTemplate.execute("ANALYZE service");
+    }
+}
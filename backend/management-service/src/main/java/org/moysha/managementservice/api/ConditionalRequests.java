@@ -0,0 +1,57 @@
+package org.moysha.managementservice.api;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.moysha.managementservice.service.dto.Revision;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional GET support: strong ETags and {@code Last-Modified} built from a {@link Revision}, and
+ * 304 answers that only look up the current revision instead of the full representation.
+ */
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Returns true, with the 304 status and validators already set, when the request's validators still
+     * match. The revision is looked up only for requests that carry validators.
+     */
+    public static boolean notModified(ServletWebRequest request, Supplier<Optional<Revision>> current) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null
+            && request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) == null) {
+            return false;
+        }
+        Optional<Revision> revision = current.get();
+        // Probe without the response first: on a miss checkNotModified still writes its validators,
+        // which must instead describe the body that is about to be sent.
+        return revision.isPresent()
+            && check(new ServletWebRequest(request.getRequest()), revision.get())
+            && check(request, revision.get());
+    }
+
+    public static <T> ResponseEntity<T> ok(T body, Revision revision) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (revision != null) {
+            response.eTag(etag(revision));
+            if (revision.modifiedAt() != null) {
+                response.lastModified(revision.modifiedAt());
+            }
+        }
+        return response.body(body);
+    }
+
+    private static boolean check(WebRequest request, Revision revision) {
+        return revision.modifiedAt() == null
+            ? request.checkNotModified(etag(revision))
+            : request.checkNotModified(etag(revision), revision.modifiedAt().toEpochMilli());
+    }
+
+    private static String etag(Revision revision) {
+        return "\"" + revision.tag() + "\"";
+    }
+}
@@ -0,0 +1,73 @@
+package org.moysha.managementservice.api;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.Type;
+import org.moysha.managementservice.api.logging.AccessLogFilter;
+import org.moysha.managementservice.api.request.BulkServiceStatusRequest;
+import org.moysha.managementservice.api.request.ChangeResponseStatusRequest;
+import org.moysha.managementservice.api.request.ChangeServiceStatusRequest;
+import org.moysha.managementservice.api.request.CreateFeedbackRequest;
+import org.moysha.managementservice.api.request.CreateResponseRequest;
+import org.moysha.managementservice.api.request.CreateServiceRequest;
+import org.moysha.managementservice.api.request.UpdateFeedbackRequest;
+import org.moysha.managementservice.api.request.UpdateServiceRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+/**
+ * Passes the requester of a request to the access log. This service takes the requester from its
+ * caller rather than authenticating it: the {@code X-User-Id} header, the {@code requesterId}
+ * parameter, or the requester field of the request body.
+ */
+@RestControllerAdvice
+public class RequesterAdvice extends RequestBodyAdviceAdapter {
+
+    @ModelAttribute
+    void requesterFromRequest(@RequestHeader(name = "X-User-Id", required = false) String userId,
+                              @RequestParam(name = "requesterId", required = false) String requesterId,
+                              HttpServletRequest request) {
+        String requester = userId != null ? userId : requesterId;
+        if (requester != null) {
+            request.setAttribute(AccessLogFilter.USER_ID_ATTRIBUTE, requester);
+        }
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter,
+                            Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body,
+                                HttpInputMessage inputMessage,
+                                MethodParameter parameter,
+                                Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+        Long requester = switch (body) {
+            case CreateServiceRequest create -> create.getOwnerId();
+            case UpdateServiceRequest update -> update.getRequesterId();
+            case ChangeServiceStatusRequest change -> change.getRequesterId();
+            case BulkServiceStatusRequest bulk -> bulk.getRequesterId();
+            case CreateFeedbackRequest create -> create.getSenderId();
+            case UpdateFeedbackRequest update -> update.getSenderId();
+            case CreateResponseRequest create -> create.getSenderId();
+            case ChangeResponseStatusRequest change -> change.getRequesterId();
+            default -> null;
+        };
+        if (requester != null) {
+            RequestContextHolder.currentRequestAttributes()
+                .setAttribute(AccessLogFilter.USER_ID_ATTRIBUTE, requester, RequestAttributes.SCOPE_REQUEST);
+        }
+        return body;
+    }
+}
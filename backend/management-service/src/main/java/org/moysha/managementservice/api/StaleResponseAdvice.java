@@ -0,0 +1,41 @@
+package org.moysha.managementservice.api;
+
+import org.moysha.managementservice.service.search.Staleness;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Marks responses built from cache entries past their TTL: {@code Age} carries the entry's age and
+ * {@code X-Cache-Stale} says whether it was served while refreshing or because the database failed.
+ */
+@RestControllerAdvice
+public class StaleResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STALE_HEADER = "X-Cache-Stale";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        Staleness.current().ifPresent(mark -> {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(HttpHeaders.AGE, Long.toString(mark.age().toSeconds()));
+            headers.set(STALE_HEADER, mark.afterError() ? "if-error" : "while-revalidate");
+        });
+        return body;
+    }
+}
@@ -2,9 +2,12 @@ package org.moysha.managementservice.api.controller;
 
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Optional;
+import org.moysha.managementservice.api.ConditionalRequests;
 import org.moysha.managementservice.api.dto.CategoryDto;
 import org.moysha.managementservice.api.request.CategoryRequest;
 import org.moysha.managementservice.service.CategoryService;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,6 +16,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/api/categories")
@@ -25,26 +29,26 @@ public class CategoryController {
     }
 
     @GetMapping
-    public List<CategoryDto> list() {
-        System.err.println("GET /api/categories");
-        return categoryService.findAll();
+    public ResponseEntity<List<CategoryDto>> list(ServletWebRequest request) {
+        if (ConditionalRequests.notModified(request, () -> Optional.of(categoryService.revision()))) {
+            return null;
+        }
+        List<CategoryDto> categories = categoryService.findAll();
+        return ConditionalRequests.ok(categories, categoryService.revisionOf(categories));
     }
 
     @PostMapping
     public CategoryDto create(@Valid @RequestBody CategoryRequest request) {
-        System.err.println("POST /api/categories");
         return categoryService.create(request);
     }
 
     @PutMapping("/{id}")
     public CategoryDto rename(@PathVariable Long id, @Valid @RequestBody CategoryRequest request) {
-        System.err.println("PUT /api/categories/{id}");
         return categoryService.rename(id, request);
     }
 
     @DeleteMapping("/{id}")
     public void delete(@PathVariable Long id) {
-        System.err.println("DELETE /api/categories/{id}");
         categoryService.delete(id);
     }
 }
@@ -24,21 +24,18 @@ public class FavoriteController {
 
     @GetMapping("/favorites")
     public Page<FavoriteDto> getFavorites(@RequestHeader("X-User-Id") Long userId, Pageable pageable) {
-        System.err.println("GET /api/favorites");
         return favoriteService.getFavorites(userId, pageable);
     }
 
     @PostMapping("/services/{serviceId}/favorites")
     public FavoriteDto add(@PathVariable Long serviceId,
                            @RequestHeader("X-User-Id") Long userId) {
-        System.err.println("POST /api/services/{serviceId}/favorites");
         return favoriteService.addToFavorites(serviceId, userId);
     }
 
     @DeleteMapping("/services/{serviceId}/favorites")
     public void remove(@PathVariable Long serviceId,
                        @RequestHeader("X-User-Id") Long userId) {
-        System.err.println("DELETE /api/services/{serviceId}/favorites");
         favoriteService.removeFromFavorites(serviceId, userId);
     }
 }
@@ -1,12 +1,18 @@
 package org.moysha.managementservice.api.controller;
 
 import jakarta.validation.Valid;
+import java.util.Optional;
+import org.moysha.managementservice.api.ConditionalRequests;
 import org.moysha.managementservice.api.dto.FeedbackDto;
+import org.moysha.managementservice.api.dto.PageDto;
 import org.moysha.managementservice.api.request.CreateFeedbackRequest;
 import org.moysha.managementservice.api.request.UpdateFeedbackRequest;
 import org.moysha.managementservice.service.FeedbackService;
+import org.moysha.managementservice.service.dto.CountMode;
+import org.moysha.managementservice.service.dto.Revision;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/api/services/{serviceId}/feedback")
@@ -28,15 +35,32 @@ public class FeedbackController {
     }
 
     @GetMapping
-    public Page<FeedbackDto> list(@PathVariable Long serviceId, Pageable pageable) {
-        System.err.println("GET /api/services/{serviceId}/feedback");
-        return feedbackService.getByService(serviceId, pageable);
+    public ResponseEntity<Page<FeedbackDto>> list(@PathVariable Long serviceId,
+                                                  Pageable pageable,
+                                                  ServletWebRequest request) {
+        // Read before the page so a concurrent write can only make the tag older than the body.
+        Revision revision = feedbackService.revision(serviceId);
+        if (ConditionalRequests.notModified(request, () -> Optional.of(revision))) {
+            return null;
+        }
+        return ConditionalRequests.ok(feedbackService.getByService(serviceId, pageable), revision);
+    }
+
+    @GetMapping(params = "count")
+    public ResponseEntity<PageDto<FeedbackDto>> list(@PathVariable Long serviceId,
+                                                     @RequestParam("count") CountMode countMode,
+                                                     Pageable pageable,
+                                                     ServletWebRequest request) {
+        Revision revision = feedbackService.revision(serviceId);
+        if (ConditionalRequests.notModified(request, () -> Optional.of(revision))) {
+            return null;
+        }
+        return ConditionalRequests.ok(feedbackService.getByService(serviceId, pageable, countMode), revision);
     }
 
     @PostMapping
     public FeedbackDto create(@PathVariable Long serviceId,
                               @Valid @RequestBody CreateFeedbackRequest request) {
-        System.err.println("POST /api/services/{serviceId}/feedback");
         return feedbackService.create(serviceId, request);
     }
 
@@ -44,7 +68,6 @@ public class FeedbackController {
     public FeedbackDto update(@PathVariable Long serviceId,
                               @PathVariable Long feedbackId,
                               @Valid @RequestBody UpdateFeedbackRequest request) {
-        System.err.println("PUT /api/services/{serviceId}/feedback/{feedbackId}");
         return feedbackService.update(feedbackId, request);
     }
 
@@ -52,7 +75,6 @@ public class FeedbackController {
     public void delete(@PathVariable Long serviceId,
                        @PathVariable Long feedbackId,
                        @RequestParam Long requesterId) {
-        System.err.println("DELETE /api/services/{serviceId}/feedback/{feedbackId}");
         feedbackService.delete(feedbackId, requesterId);
     }
 }
@@ -1,11 +1,13 @@
 package org.moysha.managementservice.api.controller;
 
 import jakarta.validation.Valid;
+import org.moysha.managementservice.api.dto.PageDto;
 import org.moysha.managementservice.api.dto.ResponseDto;
 import org.moysha.managementservice.api.request.ChangeResponseStatusRequest;
 import org.moysha.managementservice.api.request.CreateResponseRequest;
 import org.moysha.managementservice.domain.response.ResponseStatus;
 import org.moysha.managementservice.service.ResponseService;
+import org.moysha.managementservice.service.dto.CountMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -30,26 +32,29 @@ public class ResponseController {
 
     @GetMapping
     public Page<ResponseDto> list(@PathVariable Long serviceId, Pageable pageable) {
-        System.err.println("GET /api/services/{serviceId}/responses");
         return responseService.getResponses(serviceId, pageable);
     }
 
+    @GetMapping(params = "count")
+    public PageDto<ResponseDto> list(@PathVariable Long serviceId,
+                                     @RequestParam("count") CountMode countMode,
+                                     Pageable pageable) {
+        return responseService.getResponses(serviceId, pageable, countMode);
+    }
+
     @GetMapping("/active")
     public Page<ResponseDto> listActive(@PathVariable Long serviceId, Pageable pageable) {
-        System.err.println("GET /api/services/{serviceId}/responses/active");
         return responseService.getResponsesByStatus(serviceId, ResponseStatus.ACTIVE, pageable);
     }
 
     @GetMapping("/archived")
     public Page<ResponseDto> listArchived(@PathVariable Long serviceId, Pageable pageable) {
-        System.err.println("GET /api/services/{serviceId}/responses/archived");
         return responseService.getResponsesByStatus(serviceId, ResponseStatus.ARCHIVED, pageable);
     }
 
     @PostMapping
     public ResponseDto respond(@PathVariable Long serviceId,
                                @Valid @RequestBody CreateResponseRequest request) {
-        System.err.println("POST /api/services/{serviceId}/responses");
         return responseService.respond(serviceId, request);
     }
 
@@ -57,7 +62,6 @@ public class ResponseController {
     public void delete(@PathVariable Long serviceId,
                        @PathVariable Long responseId,
                        @RequestParam Long requesterId) {
-        System.err.println("DELETE /api/services/{serviceId}/responses/{responseId}");
         responseService.delete(responseId, requesterId);
     }
 
@@ -65,7 +69,6 @@ public class ResponseController {
     public ResponseDto changeStatus(@PathVariable Long serviceId,
                                     @PathVariable Long responseId,
                                     @Valid @RequestBody ChangeResponseStatusRequest request) {
-        System.err.println("PATCH /api/services/{serviceId}/responses/{responseId}/status");
         return responseService.changeStatus(responseId, request.getStatus(), request.getRequesterId());
     }
 }
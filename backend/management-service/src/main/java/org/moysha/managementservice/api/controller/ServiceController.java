@@ -1,14 +1,32 @@
 package org.moysha.managementservice.api.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.moysha.managementservice.api.ConditionalRequests;
+import org.moysha.managementservice.api.dto.BulkStatusResultDto;
+import org.moysha.managementservice.api.dto.CursorPageDto;
+import org.moysha.managementservice.api.dto.IngestResultDto;
+import org.moysha.managementservice.api.dto.PageDto;
 import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.api.dto.ServiceFacetsDto;
+import org.moysha.managementservice.api.request.BulkServiceStatusRequest;
 import org.moysha.managementservice.api.request.CreateServiceRequest;
 import org.moysha.managementservice.api.request.ServiceSearchRequest;
 import org.moysha.managementservice.api.request.ChangeServiceStatusRequest;
 import org.moysha.managementservice.api.request.UpdateServiceRequest;
 import org.moysha.managementservice.service.ServiceCatalogService;
+import org.moysha.managementservice.service.ServiceIngestService;
+import org.moysha.managementservice.service.dto.CountMode;
+import org.moysha.managementservice.service.dto.ServiceScope;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -19,54 +37,94 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/api/services")
 public class ServiceController {
 
     private final ServiceCatalogService serviceCatalogService;
+    private final ServiceIngestService serviceIngestService;
 
-    public ServiceController(ServiceCatalogService serviceCatalogService) {
+    public ServiceController(ServiceCatalogService serviceCatalogService, ServiceIngestService serviceIngestService) {
         this.serviceCatalogService = serviceCatalogService;
+        this.serviceIngestService = serviceIngestService;
     }
 
     @PostMapping
     public ServiceDto create(@Valid @RequestBody CreateServiceRequest request) {
-        System.err.println("POST /api/services");
         return serviceCatalogService.create(request);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public IngestResultDto ingest(@RequestBody List<CreateServiceRequest> requests) {
+        return serviceIngestService.ingest(requests);
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public IngestResultDto ingestCsv(HttpServletRequest request) throws IOException {
+        Charset charset = request.getCharacterEncoding() == null
+            ? StandardCharsets.UTF_8
+            : Charset.forName(request.getCharacterEncoding());
+        return serviceIngestService.ingestCsv(new InputStreamReader(request.getInputStream(), charset));
+    }
+
     @PutMapping("/{serviceId}")
     public ServiceDto update(@PathVariable Long serviceId,
                              @Valid @RequestBody UpdateServiceRequest request) {
-        System.err.println("PUT /api/services/{serviceId}");
         return serviceCatalogService.update(serviceId, request);
     }
 
     @GetMapping("/{serviceId}")
-    public ServiceDto getById(@PathVariable Long serviceId) {
-        System.err.println("GET /api/services/{serviceId}");
-        return serviceCatalogService.getById(serviceId);
+    public ResponseEntity<ServiceDto> getById(@PathVariable Long serviceId, ServletWebRequest request) {
+        if (ConditionalRequests.notModified(request, () -> serviceCatalogService.findRevision(serviceId))) {
+            return null;
+        }
+        ServiceDto service = serviceCatalogService.getById(serviceId);
+        return ConditionalRequests.ok(service, service.getRevision());
     }
 
     @PostMapping("/search")
     public Page<ServiceDto> search(@Valid @RequestBody ServiceSearchRequest request,
                                    Pageable pageable) {
-        System.err.println("POST /api/services/search");
         return serviceCatalogService.search(request.toFilter(), pageable);
     }
 
+    @PostMapping(value = "/search", params = "count")
+    public PageDto<ServiceDto> search(@Valid @RequestBody ServiceSearchRequest request,
+                                      @RequestParam("count") CountMode countMode,
+                                      Pageable pageable) {
+        return serviceCatalogService.search(request.toFilter(), pageable, countMode);
+    }
+
+    @PostMapping("/search/cursor")
+    public CursorPageDto<ServiceDto> searchByCursor(@Valid @RequestBody ServiceSearchRequest request,
+                                                    Pageable pageable) {
+        return serviceCatalogService.searchByCursor(request.toFilter(), request.getSort(), request.getCursor(),
+            pageable.getPageSize());
+    }
+
+    @PostMapping("/facets")
+    public ServiceFacetsDto facets(@Valid @RequestBody ServiceSearchRequest request) {
+        return serviceCatalogService.facets(request.toFilter());
+    }
+
     @DeleteMapping("/{serviceId}")
     public void delete(@PathVariable Long serviceId,
                        @RequestParam Long requesterId) {
-        System.err.println("DELETE /api/services/{serviceId}");
         serviceCatalogService.delete(serviceId, requesterId);
     }
 
     @PatchMapping("/{serviceId}/status")
     public ServiceDto changeStatus(@PathVariable Long serviceId,
                                    @Valid @RequestBody ChangeServiceStatusRequest request) {
-        System.err.println("PATCH /api/services/{serviceId}/status");
         return serviceCatalogService.changeStatus(serviceId, request.getStatus(), request.getRequesterId());
     }
+
+    @PatchMapping("/status")
+    public BulkStatusResultDto changeStatus(@Valid @RequestBody BulkServiceStatusRequest request,
+                                            @RequestParam(defaultValue = "false") boolean countOnly) {
+        return serviceCatalogService.changeStatus(ServiceScope.ofIds(request.getServiceIds()), request.getStatus(),
+            request.getRequesterId(), countOnly);
+    }
 }
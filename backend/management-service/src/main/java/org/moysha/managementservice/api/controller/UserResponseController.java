@@ -22,19 +22,16 @@ public class UserResponseController {
 
     @GetMapping("/{userId}/responses")
     public Page<ResponseDto> listUserResponses(@PathVariable Long userId, Pageable pageable) {
-        System.err.println("GET /api/users/{userId}/responses");
         return responseService.getUserResponses(userId, pageable);
     }
 
     @GetMapping("/{userId}/responses/active")
     public Page<ResponseDto> listUserActiveResponses(@PathVariable Long userId, Pageable pageable) {
-        System.err.println("GET /api/users/{userId}/responses/active");
         return responseService.getUserResponsesByStatus(userId, ResponseStatus.ACTIVE, pageable);
     }
 
     @GetMapping("/{userId}/responses/archived")
     public Page<ResponseDto> listUserArchivedResponses(@PathVariable Long userId, Pageable pageable) {
-        System.err.println("GET /api/users/{userId}/responses/archived");
         return responseService.getUserResponsesByStatus(userId, ResponseStatus.ARCHIVED, pageable);
     }
 }
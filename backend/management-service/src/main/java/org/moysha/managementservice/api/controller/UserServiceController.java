@@ -24,7 +24,6 @@ public class UserServiceController {
     @PatchMapping("/{userId}/services/status")
     public List<ServiceDto> changeUserServicesStatus(@PathVariable Long userId,
                                                      @Valid @RequestBody ChangeServiceStatusRequest request) {
-        System.err.println("PATCH /api/users/{userId}/services/status");
         return serviceCatalogService.changeUserServicesStatus(userId, request.getStatus(), request.getRequesterId());
     }
 
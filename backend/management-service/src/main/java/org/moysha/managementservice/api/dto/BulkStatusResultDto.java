@@ -0,0 +1,18 @@
+package org.moysha.managementservice.api.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusResultDto {
+
+    private int updated;
+    // null when only the count was requested
+    private List<ServiceDto> services;
+}
@@ -1,5 +1,6 @@
 package org.moysha.managementservice.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,4 +14,6 @@ public class CategoryDto {
 
     private Long id;
     private String name;
+    @JsonIgnore
+    private long version;
 }
@@ -0,0 +1,17 @@
+package org.moysha.managementservice.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryFacetDto {
+
+    private Long categoryId;
+    private String categoryName;
+    private long count;
+}
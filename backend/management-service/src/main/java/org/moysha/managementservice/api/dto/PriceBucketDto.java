@@ -0,0 +1,18 @@
+package org.moysha.managementservice.api.dto;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceBucketDto {
+
+    private BigDecimal from;
+    private BigDecimal to;
+    private long count;
+}
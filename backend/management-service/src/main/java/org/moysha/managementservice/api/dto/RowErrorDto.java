@@ -0,0 +1,17 @@
+package org.moysha.managementservice.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RowErrorDto {
+
+    // 1-based position in a JSON upload; for CSV, the file line the record starts on
+    private int row;
+    private String message;
+}
@@ -1,5 +1,6 @@
 package org.moysha.managementservice.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.math.BigDecimal;
 import java.time.Instant;
 import lombok.AllArgsConstructor;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.moysha.managementservice.domain.service.ServiceStatus;
 import org.moysha.managementservice.domain.service.ServiceType;
+import org.moysha.managementservice.service.dto.Revision;
 
 @Getter
 @Setter
@@ -28,4 +30,24 @@ public class ServiceDto {
     private boolean barter;
     private String place;
     private Instant createdAt;
+    private String snippet;
+    @JsonIgnore
+    private Revision revision;
+
+    public ServiceDto(Long id,
+                      Long ownerId,
+                      String ownerEmail,
+                      Long categoryId,
+                      String categoryName,
+                      String title,
+                      String description,
+                      ServiceType type,
+                      ServiceStatus status,
+                      BigDecimal price,
+                      boolean barter,
+                      String place,
+                      Instant createdAt) {
+        this(id, ownerId, ownerEmail, categoryId, categoryName, title, description, type, status, price, barter,
+            place, createdAt, null, null);
+    }
 }
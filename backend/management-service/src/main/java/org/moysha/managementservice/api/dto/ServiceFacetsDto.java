@@ -0,0 +1,24 @@
+package org.moysha.managementservice.api.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.domain.service.ServiceType;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceFacetsDto {
+
+    private long total;
+    private List<CategoryFacetDto> categories;
+    private Map<ServiceType, Long> types;
+    private Map<ServiceStatus, Long> statuses;
+    private Map<Boolean, Long> barter;
+    private List<PriceBucketDto> priceBuckets;
+}
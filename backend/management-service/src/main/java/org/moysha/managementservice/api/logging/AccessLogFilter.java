@@ -0,0 +1,52 @@
+package org.moysha.managementservice.api.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records one access entry per request, keyed by the matched route template so that requests for
+ * different ids are counted and sampled together. The requester is resolved further down the chain,
+ * which leaves its id in the {@link #USER_ID_ATTRIBUTE} request attribute.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    public static final String USER_ID_ATTRIBUTE = AccessLogFilter.class.getName() + ".userId";
+
+    private final AccessLog accessLog;
+
+    public AccessLogFilter(AccessLog accessLog) {
+        this.accessLog = accessLog;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        long started = System.nanoTime();
+        int statements = StatementCounter.current();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Object userId = request.getAttribute(USER_ID_ATTRIBUTE);
+            accessLog.record(new AccessRecord(
+                request.getMethod(),
+                pattern != null ? pattern.toString() : request.getRequestURI(),
+                failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(),
+                System.nanoTime() - started,
+                userId != null ? userId.toString() : null,
+                StatementCounter.current() - statements));
+        }
+    }
+}
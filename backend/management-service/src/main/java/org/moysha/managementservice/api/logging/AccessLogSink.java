@@ -0,0 +1,11 @@
+package org.moysha.managementservice.api.logging;
+
+/**
+ * Where the access log writer hands drained records. Without a sink bean they go to the
+ * {@code access} logger.
+ */
+@FunctionalInterface
+public interface AccessLogSink {
+
+    void write(AccessRecord record);
+}
@@ -0,0 +1,17 @@
+package org.moysha.managementservice.api.logging;
+
+/**
+ * One handled request. {@code route} is the matched mapping template, or the raw path when no
+ * handler matched; {@code userId} is null for anonymous requests.
+ */
+public record AccessRecord(String method, String route, int status, long latencyNanos, String userId,
+                           int statements) {
+
+    public String routeKey() {
+        return method + " " + route;
+    }
+
+    public double latencyMillis() {
+        return latencyNanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,28 @@
+package org.moysha.managementservice.api.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkServiceStatusRequest {
+
+    @NotNull
+    private Long requesterId;
+
+    @NotNull
+    private ServiceStatus status;
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull Long> serviceIds;
+}
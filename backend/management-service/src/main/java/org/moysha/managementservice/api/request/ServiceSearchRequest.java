@@ -7,6 +7,7 @@ import lombok.Setter;
 import org.moysha.managementservice.domain.service.ServiceStatus;
 import org.moysha.managementservice.domain.service.ServiceType;
 import org.moysha.managementservice.service.dto.ServiceFilter;
+import org.moysha.managementservice.service.dto.ServiceSort;
 
 @Getter
 @Setter
@@ -22,9 +23,17 @@ public class ServiceSearchRequest {
     private Boolean barterOnly;
     private Instant createdAfter;
     private Instant createdBefore;
+    private String titleFuzzy;
+    private Boolean sortBySimilarity;
+    private String text;
+    private Boolean sortByRank;
+    private Boolean highlight;
+    private ServiceSort sort;
+    private String cursor;
 
     public ServiceFilter toFilter() {
         return new ServiceFilter(ownerId, categoryId, type, status, titleLike, minPrice, maxPrice,
-            barterOnly, createdAfter, createdBefore);
+            barterOnly, createdAfter, createdBefore, titleFuzzy, Boolean.TRUE.equals(sortBySimilarity),
+            text, Boolean.TRUE.equals(sortByRank), Boolean.TRUE.equals(highlight));
     }
 }
@@ -0,0 +1,29 @@
+package org.moysha.managementservice.config;
+
+import javax.sql.DataSource;
+import org.moysha.managementservice.api.logging.StatementCounter;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(AccessLogSettings.class)
+public class AccessLogConfig {
+
+    /**
+     * Counts the statements each thread prepares, for the access log. The pool stays reachable
+     * through {@code unwrap}, so pool metrics and driver-specific APIs keep working.
+     */
+    @Bean
+    @ConditionalOnBooleanProperty(name = "access-log.enabled", matchIfMissing = true)
+    static BeanPostProcessor statementCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? StatementCounter.counting(dataSource) : bean;
+            }
+        };
+    }
+}
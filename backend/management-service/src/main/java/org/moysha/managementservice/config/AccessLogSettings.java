@@ -0,0 +1,59 @@
+package org.moysha.managementservice.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogSettings {
+
+    private boolean enabled = true;
+    // Rounded up to a power of two; records arriving while it is full are dropped and counted.
+    private int bufferSize = 8_192;
+    private Duration flushInterval = Duration.ofMillis(200);
+    // Requests at least this slow, and server errors, are logged regardless of sampling.
+    private Duration slowThreshold = Duration.ofSeconds(1);
+    // Share of requests logged per "METHOD /route/{template}"; routes not listed are logged in full.
+    private Map<String, Double> sampling = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+
+    public Map<String, Double> getSampling() {
+        return sampling;
+    }
+
+    public void setSampling(Map<String, Double> sampling) {
+        this.sampling = sampling;
+    }
+}
@@ -0,0 +1,57 @@
+package org.moysha.managementservice.config;
+
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Runs the asynchronous domain event listeners on their own small pool rather than the application
+ * task executor. The pool is not a bean, so it does not replace that executor either. Publications
+ * still queued at shutdown stay incomplete in the event store and are republished on the next start.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+@EnableConfigurationProperties(DomainEventSettings.class)
+public class DomainEventConfig implements AsyncConfigurer, DisposableBean {
+
+    private final DomainEventSettings settings;
+    private ThreadPoolTaskExecutor listenerExecutor;
+
+    public DomainEventConfig(DomainEventSettings settings) {
+        this.settings = settings;
+    }
+
+    @Override
+    public synchronized Executor getAsyncExecutor() {
+        if (settings.getListenerThreads() == 0) {
+            return new SyncTaskExecutor();
+        }
+        if (listenerExecutor == null) {
+            listenerExecutor = new ThreadPoolTaskExecutor();
+            listenerExecutor.setCorePoolSize(settings.getListenerThreads());
+            listenerExecutor.setMaxPoolSize(settings.getListenerThreads());
+            listenerExecutor.setThreadNamePrefix("domain-event-");
+            // listener spans continue the trace of the request that published the event
+            listenerExecutor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+            listenerExecutor.setWaitForTasksToCompleteOnShutdown(true);
+            listenerExecutor.setAwaitTerminationSeconds(10);
+            listenerExecutor.initialize();
+        }
+        return listenerExecutor;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (listenerExecutor != null) {
+            listenerExecutor.shutdown();
+        }
+    }
+}
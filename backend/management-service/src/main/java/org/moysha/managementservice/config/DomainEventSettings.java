@@ -0,0 +1,46 @@
+package org.moysha.managementservice.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "events")
+public class DomainEventSettings {
+
+    // 0 runs the listeners on the committing thread, right after the commit.
+    private int listenerThreads = 2;
+    private Duration retention = Duration.ofHours(1);
+    private Duration purgeInterval = Duration.ofMinutes(5);
+    private int purgeBatchSize = 1_000;
+
+    public int getListenerThreads() {
+        return listenerThreads;
+    }
+
+    public void setListenerThreads(int listenerThreads) {
+        this.listenerThreads = listenerThreads;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+
+    public Duration getPurgeInterval() {
+        return purgeInterval;
+    }
+
+    public void setPurgeInterval(Duration purgeInterval) {
+        this.purgeInterval = purgeInterval;
+    }
+
+    public int getPurgeBatchSize() {
+        return purgeBatchSize;
+    }
+
+    public void setPurgeBatchSize(int purgeBatchSize) {
+        this.purgeBatchSize = purgeBatchSize;
+    }
+}
@@ -0,0 +1,22 @@
+package org.moysha.managementservice.config;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "facets")
+public class FacetSettings {
+
+    private List<BigDecimal> priceBounds = new ArrayList<>(List.of(
+        new BigDecimal("500"), new BigDecimal("1000"), new BigDecimal("3000"), new BigDecimal("10000")
+    ));
+
+    public List<BigDecimal> getPriceBounds() {
+        return priceBounds;
+    }
+
+    public void setPriceBounds(List<BigDecimal> priceBounds) {
+        this.priceBounds = priceBounds;
+    }
+}
@@ -0,0 +1,9 @@
+package org.moysha.managementservice.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(IngestSettings.class)
+public class IngestConfig {
+}
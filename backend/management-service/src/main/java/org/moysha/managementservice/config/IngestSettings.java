@@ -0,0 +1,27 @@
+package org.moysha.managementservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "ingest")
+public class IngestSettings {
+
+    // Rows validated, resolved and copied together; owners and categories are looked up once per batch.
+    private int batchSize = 5_000;
+    private int maxRows = 100_000;
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    public void setMaxRows(int maxRows) {
+        this.maxRows = maxRows;
+    }
+}
@@ -0,0 +1,17 @@
+package org.moysha.managementservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "paging")
+public class PagingSettings {
+
+    private long estimateCap = 10_000;
+
+    public long getEstimateCap() {
+        return estimateCap;
+    }
+
+    public void setEstimateCap(long estimateCap) {
+        this.estimateCap = estimateCap;
+    }
+}
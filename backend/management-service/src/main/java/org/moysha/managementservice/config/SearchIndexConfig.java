@@ -0,0 +1,18 @@
+package org.moysha.managementservice.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({
+    SearchIndexSettings.class,
+    SearchCacheSettings.class,
+    ServiceDetailCacheSettings.class,
+    CategoryCacheSettings.class,
+    StaleServingSettings.class,
+    InvalidationSettings.class
+})
+public class SearchIndexConfig {
+}
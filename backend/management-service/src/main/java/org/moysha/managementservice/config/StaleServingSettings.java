@@ -0,0 +1,45 @@
+package org.moysha.managementservice.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "cache.stale")
+public class StaleServingSettings {
+
+    private boolean enabled = true;
+    private Duration whileRevalidate = Duration.ofMinutes(1);
+    private Duration ifError = Duration.ofMinutes(10);
+    private int refreshThreads = 2;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getWhileRevalidate() {
+        return whileRevalidate;
+    }
+
+    public void setWhileRevalidate(Duration whileRevalidate) {
+        this.whileRevalidate = whileRevalidate;
+    }
+
+    public Duration getIfError() {
+        return ifError;
+    }
+
+    public void setIfError(Duration ifError) {
+        this.ifError = ifError;
+    }
+
+    public int getRefreshThreads() {
+        return refreshThreads;
+    }
+
+    public void setRefreshThreads(int refreshThreads) {
+        this.refreshThreads = refreshThreads;
+    }
+}
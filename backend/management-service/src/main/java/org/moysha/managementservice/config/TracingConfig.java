@@ -0,0 +1,91 @@
+package org.moysha.managementservice.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.jdbc.datasource.JdbcTelemetry;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import javax.sql.DataSource;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Adds repository and JDBC spans under the HTTP spans Spring Boot already records, so a slow
+ * request shows whether the time went to our code, a repository call or a single statement.
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Every JDBC statement becomes a client span with the sanitized SQL. {@code unwrap} still
+     * reaches the pool and driver, so COPY and LISTEN keep working.
+     */
+    @Bean
+    static BeanPostProcessor tracingDataSource(ObjectProvider<OpenTelemetry> openTelemetry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                OpenTelemetry telemetry = openTelemetry.getIfAvailable();
+                return telemetry == null ? bean : JdbcTelemetry.create(telemetry).wrap(dataSource);
+            }
+        };
+    }
+
+    /**
+     * Observes each call into a Spring Data repository or a {@code @Repository} class, which gives
+     * a span and a {@code repository.invocation} timer per repository method. Registered as an
+     * infrastructure advisor so the proxy creator that already handles transactions applies it.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor repositoryObservationAdvisor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        MethodInterceptor interceptor = invocation -> {
+            ObservationRegistry registry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
+            String repository = repositoryName(invocation.getThis());
+            String method = invocation.getMethod().getName();
+            return Observation.createNotStarted("repository.invocation", registry)
+                .contextualName(repository + "." + method)
+                .lowCardinalityKeyValue("repository", repository)
+                .lowCardinalityKeyValue("method", method)
+                .observeChecked(invocation::proceed);
+        };
+        return new DefaultPointcutAdvisor(new RepositoryPointcut(), interceptor);
+    }
+
+    // Spring Data repositories are JDK proxies whose first interface is the declared repository.
+    private static String repositoryName(Object target) {
+        Class<?> type = target instanceof Advised advised && Proxy.isProxyClass(target.getClass())
+            ? advised.getProxiedInterfaces()[0]
+            : ClassUtils.getUserClass(target);
+        return type.getSimpleName();
+    }
+
+    private static final class RepositoryPointcut extends StaticMethodMatcherPointcut {
+
+        private RepositoryPointcut() {
+            setClassFilter(type -> org.springframework.data.repository.Repository.class.isAssignableFrom(type)
+                || AnnotatedElementUtils.hasAnnotation(type, Repository.class));
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return method.getDeclaringClass() != Object.class;
+        }
+    }
+}
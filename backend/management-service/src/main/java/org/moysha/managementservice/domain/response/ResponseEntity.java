@@ -1,9 +1,8 @@
 package org.moysha.managementservice.domain.response;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -14,9 +13,11 @@ import jakarta.persistence.Table;
 import java.time.Instant;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcType;
+import org.moysha.managementservice.domain.response.converter.ResponseStatusConverter;
 import org.moysha.managementservice.domain.service.ServiceEntity;
+import org.moysha.managementservice.domain.type.PostgresEnumJdbcType;
 import org.moysha.managementservice.domain.user.AppUserEntity;
-import org.hibernate.annotations.ColumnTransformer;
 
 @Getter
 @Setter
@@ -36,9 +37,9 @@ public class ResponseEntity {
     @JoinColumn(name = "service_id", nullable = false)
     private ServiceEntity service;
 
-    @Enumerated(EnumType.STRING)
-    @ColumnTransformer(read = "upper(status::text)", write = "lower(?)::service_status")
-    @Column(nullable = false)
+    @Convert(converter = ResponseStatusConverter.class)
+    @JdbcType(PostgresEnumJdbcType.class)
+    @Column(nullable = false, columnDefinition = "service_status")
     private ResponseStatus status = ResponseStatus.ACTIVE;
 
     @Column(name = "created_at", nullable = false)
@@ -0,0 +1,20 @@
+package org.moysha.managementservice.domain.response.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Locale;
+import org.moysha.managementservice.domain.response.ResponseStatus;
+
+@Converter
+public class ResponseStatusConverter implements AttributeConverter<ResponseStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ResponseStatus attribute) {
+        return attribute == null ? null : attribute.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public ResponseStatus convertToEntityAttribute(String dbData) {
+        return dbData == null ? null : ResponseStatus.valueOf(dbData.trim().toUpperCase(Locale.ROOT));
+    }
+}
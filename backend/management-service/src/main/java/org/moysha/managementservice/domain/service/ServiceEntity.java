@@ -1,9 +1,9 @@
 package org.moysha.managementservice.domain.service;
 
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -11,14 +11,19 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.Instant;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcType;
 import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.domain.service.converter.ServiceStatusConverter;
+import org.moysha.managementservice.domain.service.converter.ServiceTypeConverter;
+import org.moysha.managementservice.domain.type.PostgresEnumJdbcType;
 import org.moysha.managementservice.domain.user.AppUserEntity;
-import org.hibernate.annotations.ColumnTransformer;
 
 @Getter
 @Setter
@@ -27,7 +32,8 @@ import org.hibernate.annotations.ColumnTransformer;
 public class ServiceEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "service_id_seq")
+    @SequenceGenerator(name = "service_id_seq", sequenceName = "service_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -44,14 +50,14 @@ public class ServiceEntity {
     @Column(nullable = false, length = 5000)
     private String description;
 
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
-    @ColumnTransformer(read = "upper(status::text)", write = "lower(?)::service_status")
+    @Convert(converter = ServiceStatusConverter.class)
+    @JdbcType(PostgresEnumJdbcType.class)
+    @Column(nullable = false, columnDefinition = "service_status")
     private ServiceStatus status = ServiceStatus.ACTIVE;
 
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
-    @ColumnTransformer(read = "upper(type::text)", write = "lower(?)::service_type")
+    @Convert(converter = ServiceTypeConverter.class)
+    @JdbcType(PostgresEnumJdbcType.class)
+    @Column(nullable = false, columnDefinition = "service_type")
     private ServiceType type;
 
     @Column(nullable = false, precision = 10, scale = 2)
@@ -63,9 +69,19 @@ public class ServiceEntity {
     @Column(length = 255)
     private String place;
 
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "search_vector", insertable = false, updatable = false, columnDefinition = "tsvector")
+    private String searchVector;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt = Instant.now();
 
+    @Version
+    private Long version;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private Instant updatedAt;
+
     @PrePersist
     void onCreate() {
         if (createdAt == null) {
@@ -0,0 +1,20 @@
+package org.moysha.managementservice.domain.service.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Locale;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+
+@Converter
+public class ServiceStatusConverter implements AttributeConverter<ServiceStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ServiceStatus attribute) {
+        return attribute == null ? null : attribute.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public ServiceStatus convertToEntityAttribute(String dbData) {
+        return dbData == null ? null : ServiceStatus.valueOf(dbData.trim().toUpperCase(Locale.ROOT));
+    }
+}
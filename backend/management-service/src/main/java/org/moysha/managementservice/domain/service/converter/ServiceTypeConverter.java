@@ -0,0 +1,20 @@
+package org.moysha.managementservice.domain.service.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Locale;
+import org.moysha.managementservice.domain.service.ServiceType;
+
+@Converter
+public class ServiceTypeConverter implements AttributeConverter<ServiceType, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ServiceType attribute) {
+        return attribute == null ? null : attribute.name().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public ServiceType convertToEntityAttribute(String dbData) {
+        return dbData == null ? null : ServiceType.valueOf(dbData.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,34 @@
+package org.moysha.managementservice.domain.type;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Full-text functions over the generated {@code service.search_vector} column. Queries are parsed
+ * with {@code websearch_to_tsquery}, so user input never fails as tsquery syntax. Headlines are HTML:
+ * the source text is escaped before {@code ts_headline} adds its {@code <b>} markers.
+ */
+public class FullTextFunctionContributor implements FunctionContributor {
+
+    public static final String FTS_MATCH = "fts_match";
+    public static final String FTS_RANK = "fts_rank";
+    public static final String FTS_HEADLINE = "fts_headline";
+
+    private static final String QUERY = "websearch_to_tsquery('russian', ?2)";
+    private static final String ESCAPED = "replace(replace(replace(?1, '&', '&amp;'), '<', '&lt;'), '>', '&gt;')";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        functionContributions.getFunctionRegistry().registerPattern(
+            FTS_MATCH, "(?1 @@ " + QUERY + ")", types.resolve(StandardBasicTypes.BOOLEAN));
+        functionContributions.getFunctionRegistry().registerPattern(
+            FTS_RANK, "ts_rank_cd(?1, " + QUERY + ")", types.resolve(StandardBasicTypes.FLOAT));
+        functionContributions.getFunctionRegistry().registerPattern(
+            FTS_HEADLINE,
+            "ts_headline('russian', " + ESCAPED + ", " + QUERY + ", 'MaxFragments=2, MaxWords=20, MinWords=5')",
+            types.resolve(StandardBasicTypes.STRING));
+    }
+}
@@ -0,0 +1,35 @@
+package org.moysha.managementservice.domain.type;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.jdbc.BasicBinder;
+import org.hibernate.type.descriptor.jdbc.VarcharJdbcType;
+
+/**
+ * Binds an already converted enum label as an untyped parameter, so Postgres resolves it
+ * to the column's enum type and {@code status = ?} stays a plain, indexable comparison.
+ */
+public class PostgresEnumJdbcType extends VarcharJdbcType {
+
+    @Override
+    public <X> ValueBinder<X> getBinder(JavaType<X> javaType) {
+        return new BasicBinder<>(javaType, this) {
+            @Override
+            protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options)
+                throws SQLException {
+                st.setObject(index, javaType.unwrap(value, String.class, options), Types.OTHER);
+            }
+
+            @Override
+            protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
+                throws SQLException {
+                st.setObject(name, javaType.unwrap(value, String.class, options), Types.OTHER);
+            }
+        };
+    }
+}
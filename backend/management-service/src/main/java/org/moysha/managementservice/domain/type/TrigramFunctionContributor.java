@@ -0,0 +1,25 @@
+package org.moysha.managementservice.domain.type;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Exposes the pg_trgm operators to criteria queries, so fuzzy title filters can be answered
+ * by the trigram GIN index on {@code service.title}.
+ */
+public class TrigramFunctionContributor implements FunctionContributor {
+
+    public static final String TRGM_MATCH = "trgm_match";
+    public static final String TRGM_SIMILARITY = "trgm_similarity";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        BasicTypeRegistry types = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        functionContributions.getFunctionRegistry().registerPattern(
+            TRGM_MATCH, "(?1 % ?2)", types.resolve(StandardBasicTypes.BOOLEAN));
+        functionContributions.getFunctionRegistry().registerPattern(
+            TRGM_SIMILARITY, "similarity(?1, ?2)", types.resolve(StandardBasicTypes.FLOAT));
+    }
+}
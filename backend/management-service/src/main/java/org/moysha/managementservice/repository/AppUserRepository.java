@@ -2,9 +2,15 @@ package org.moysha.managementservice.repository;
 
 import java.util.Optional;
 import org.moysha.managementservice.domain.user.AppUserEntity;
+import org.moysha.managementservice.domain.user.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AppUserRepository extends JpaRepository<AppUserEntity, Long> {
 
     Optional<AppUserEntity> findByEmail(String email);
+
+    @Query("select u.role from AppUserEntity u where u.id = :id")
+    Optional<UserRole> findRoleById(@Param("id") Long id);
 }
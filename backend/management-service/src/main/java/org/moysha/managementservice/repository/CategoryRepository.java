@@ -1,10 +1,32 @@
 package org.moysha.managementservice.repository;
 
+import jakarta.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.service.dto.VersionSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface CategoryRepository extends JpaRepository<CategoryEntity, Long> {
 
+    String QUERY_CACHE_REGION = "category-queries";
+
     Optional<CategoryEntity> findByNameIgnoreCase(String name);
+
+    @Override
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    List<CategoryEntity> findAll();
+
+    @Query("""
+        select new org.moysha.managementservice.service.dto.VersionSummary(
+            count(c), coalesce(sum(c.id), 0), coalesce(sum(c.version), 0))
+        from CategoryEntity c
+        """)
+    VersionSummary summarizeVersions();
 }
@@ -0,0 +1,41 @@
+package org.moysha.managementservice.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Housekeeping on the Spring Modulith event store; publishing and completion go through Modulith.
+ */
+@Repository
+public class EventPublicationRepository {
+
+    // Oldest first along event_publication_completed_idx. Rows locked by a concurrent purge on another
+    // replica are skipped instead of waited for.
+    private static final String DELETE_COMPLETED_BATCH = """
+        DELETE FROM event_publication
+        WHERE id IN (
+            SELECT id
+            FROM event_publication
+            WHERE completion_date < ?
+            ORDER BY completion_date
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        )
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public EventPublicationRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Deletes at most {@code limit} publications completed before {@code before} and returns how many
+     * were deleted.
+     */
+    public int deleteCompletedBefore(Instant before, int limit) {
+        return jdbcTemplate.update(DELETE_COMPLETED_BATCH, Timestamp.from(before), limit);
+    }
+}
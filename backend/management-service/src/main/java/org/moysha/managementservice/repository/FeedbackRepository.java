@@ -2,9 +2,13 @@ package org.moysha.managementservice.repository;
 
 import java.util.Optional;
 import org.moysha.managementservice.domain.feedback.FeedbackEntity;
+import org.moysha.managementservice.service.dto.VersionSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FeedbackRepository extends JpaRepository<FeedbackEntity, Long> {
 
@@ -14,5 +18,17 @@ public interface FeedbackRepository extends JpaRepository<FeedbackEntity, Long>
 
     Page<FeedbackEntity> findByService_Id(Long serviceId, Pageable pageable);
 
+    Slice<FeedbackEntity> findSliceByService_Id(Long serviceId, Pageable pageable);
+
+    long countByService_Id(Long serviceId);
+
+    @Query("""
+        select new org.moysha.managementservice.service.dto.VersionSummary(
+            count(f), coalesce(sum(f.id), 0), coalesce(sum(f.version), 0))
+        from FeedbackEntity f
+        where f.service.id = :serviceId
+        """)
+    VersionSummary summarizeVersionsByService(@Param("serviceId") Long serviceId);
+
     Optional<FeedbackEntity> findByIdAndSender_Id(Long id, Long senderId);
 }
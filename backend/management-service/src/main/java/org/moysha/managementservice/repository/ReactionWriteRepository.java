@@ -0,0 +1,92 @@
+package org.moysha.managementservice.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import org.moysha.managementservice.api.dto.FeedbackDto;
+import org.moysha.managementservice.api.dto.ResponseDto;
+import org.moysha.managementservice.domain.response.ResponseStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Single-statement writes of what users leave on a service: responses, feedback and favorites. Each
+ * insert selects its sender and service in the same statement and resolves the unique key with
+ * ON CONFLICT, so concurrent duplicates never reach the constraint; an empty result means a referenced
+ * row is missing, the sender owns the service, or the conflicting row was left as it was.
+ */
+@Repository
+public class ReactionWriteRepository {
+
+    // An archived response is reactivated; an active one is left untouched and not returned.
+    private static final String UPSERT_RESPONSE = """
+        INSERT INTO response (sender_id, service_id)
+        SELECT u.id, s.id
+        FROM service s, app_user u
+        WHERE s.id = ? AND u.id = ? AND s.owner_id <> u.id
+        ON CONFLICT ON CONSTRAINT unq_response DO UPDATE
+        SET status = 'active'
+        WHERE response.status <> 'active'
+        RETURNING id, service_id, sender_id, status::text AS status, created_at
+        """;
+
+    private static final String UPSERT_FEEDBACK = """
+        INSERT INTO feedback (sender_id, service_id, rate, review)
+        SELECT u.id, s.id, ?, ?
+        FROM service s, app_user u
+        WHERE s.id = ? AND u.id = ? AND s.owner_id <> u.id
+        ON CONFLICT ON CONSTRAINT unq_feedback_one_per_user DO UPDATE
+        SET rate   = EXCLUDED.rate,
+            review = EXCLUDED.review
+        RETURNING id, service_id, sender_id, rate, review, created_at
+        """;
+
+    private static final String INSERT_FAVORITE = """
+        INSERT INTO favourite_service (user_id, service_id)
+        SELECT u.id, s.id
+        FROM app_user u, service s
+        WHERE u.id = ? AND s.id = ?
+        ON CONFLICT (user_id, service_id) DO NOTHING
+        RETURNING created_at
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ReactionWriteRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<ResponseDto> upsertResponse(Long serviceId, Long senderId) {
+        return single(jdbcTemplate.query(UPSERT_RESPONSE, (rs, rowNum) -> new ResponseDto(
+            rs.getLong("id"),
+            rs.getLong("service_id"),
+            rs.getLong("sender_id"),
+            ResponseStatus.valueOf(rs.getString("status").toUpperCase(Locale.ROOT)),
+            rs.getTimestamp("created_at").toInstant()
+        ), serviceId, senderId));
+    }
+
+    public Optional<FeedbackDto> upsertFeedback(Long serviceId, Long senderId, short rate, String review) {
+        return single(jdbcTemplate.query(UPSERT_FEEDBACK, (rs, rowNum) -> new FeedbackDto(
+            rs.getLong("id"),
+            rs.getLong("service_id"),
+            rs.getLong("sender_id"),
+            rs.getShort("rate"),
+            rs.getString("review"),
+            rs.getTimestamp("created_at").toInstant()
+        ), rate, review, serviceId, senderId));
+    }
+
+    /**
+     * Returns the creation time of the new favorite, or empty when it already existed.
+     */
+    public Optional<Instant> insertFavorite(Long userId, Long serviceId) {
+        return single(jdbcTemplate.query(INSERT_FAVORITE,
+            (rs, rowNum) -> rs.getTimestamp("created_at").toInstant(), userId, serviceId));
+    }
+
+    private static <T> Optional<T> single(List<T> rows) {
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+}
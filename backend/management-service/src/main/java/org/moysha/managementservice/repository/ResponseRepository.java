@@ -4,6 +4,7 @@ import org.moysha.managementservice.domain.response.ResponseEntity;
 import org.moysha.managementservice.domain.response.ResponseStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,6 +15,10 @@ public interface ResponseRepository extends JpaRepository<ResponseEntity, Long>
 
     Page<ResponseEntity> findByService_Id(Long serviceId, Pageable pageable);
 
+    Slice<ResponseEntity> findSliceByService_Id(Long serviceId, Pageable pageable);
+
+    long countByService_Id(Long serviceId);
+
     Page<ResponseEntity> findBySender_IdOrService_Owner_Id(Long senderId, Long ownerId, Pageable pageable);
 
     java.util.Optional<ResponseEntity> findBySender_IdAndService_Id(Long senderId, Long serviceId);
@@ -0,0 +1,42 @@
+package org.moysha.managementservice.repository;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.moysha.managementservice.service.dto.ServiceFilter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class RowEstimateRepository {
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RowEstimateRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long estimateServices(ServiceFilter filter) {
+        ServiceFilterSql where = ServiceFilterSql.of(filter);
+        return estimate("SELECT 1 FROM service WHERE " + where.sql(), where.args());
+    }
+
+    public long estimateResponsesByService(Long serviceId) {
+        return estimate("SELECT 1 FROM response WHERE service_id = ?", serviceId);
+    }
+
+    public long estimateFeedbackByService(Long serviceId) {
+        return estimate("SELECT 1 FROM feedback WHERE service_id = ?", serviceId);
+    }
+
+    private long estimate(String sql, Object... args) {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args);
+        if (plan.isEmpty()) {
+            return 0;
+        }
+        Matcher matcher = PLAN_ROWS.matcher(plan.get(0));
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+}
@@ -0,0 +1,96 @@
+package org.moysha.managementservice.repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.moysha.managementservice.api.dto.CategoryFacetDto;
+import org.moysha.managementservice.api.dto.PriceBucketDto;
+import org.moysha.managementservice.api.dto.ServiceFacetsDto;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.domain.service.ServiceType;
+import org.moysha.managementservice.service.dto.ServiceFilter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ServiceFacetRepository {
+
+    // GROUPING() sets a bit for every column that is rolled up in the row's grouping set.
+    private static final int BY_CATEGORY = 0b01111;
+    private static final int BY_TYPE = 0b10111;
+    private static final int BY_STATUS = 0b11011;
+    private static final int BY_BARTER = 0b11101;
+    private static final int BY_PRICE = 0b11110;
+    private static final int TOTAL = 0b11111;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ServiceFacetRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public ServiceFacetsDto countFacets(ServiceFilter filter, List<BigDecimal> priceBounds) {
+        ServiceFilterSql where = ServiceFilterSql.of(filter);
+        String sql = """
+            WITH matched AS (
+                SELECT category_id, type::text AS type, status::text AS status, barter,
+                       width_bucket(price, ?::numeric[]) AS price_bucket
+                FROM service
+                WHERE %s
+            ), facets AS (
+                SELECT GROUPING(category_id, type, status, barter, price_bucket) AS grouping_id,
+                       category_id, type, status, barter, price_bucket, count(*) AS count
+                FROM matched
+                GROUP BY GROUPING SETS ((), (category_id), (type), (status), (barter), (price_bucket))
+            )
+            SELECT f.*, c.name AS category_name
+            FROM facets f
+            LEFT JOIN category c ON c.id = f.category_id
+            """.formatted(where.sql());
+        Object[] args = new Object[where.args().length + 1];
+        args[0] = priceBounds.stream().map(BigDecimal::toPlainString).collect(Collectors.joining(",", "{", "}"));
+        System.arraycopy(where.args(), 0, args, 1, where.args().length);
+
+        long[] total = new long[1];
+        List<CategoryFacetDto> categories = new ArrayList<>();
+        Map<ServiceType, Long> types = new EnumMap<>(ServiceType.class);
+        Map<ServiceStatus, Long> statuses = new EnumMap<>(ServiceStatus.class);
+        Map<Boolean, Long> barter = new LinkedHashMap<>();
+        long[] buckets = new long[priceBounds.size() + 1];
+        jdbcTemplate.query(sql, rs -> {
+            long count = rs.getLong("count");
+            switch (rs.getInt("grouping_id")) {
+                case TOTAL -> total[0] = count;
+                case BY_CATEGORY -> categories.add(
+                    new CategoryFacetDto(rs.getLong("category_id"), rs.getString("category_name"), count));
+                case BY_TYPE -> types.put(ServiceType.valueOf(rs.getString("type").toUpperCase(Locale.ROOT)), count);
+                case BY_STATUS ->
+                    statuses.put(ServiceStatus.valueOf(rs.getString("status").toUpperCase(Locale.ROOT)), count);
+                case BY_BARTER -> barter.put(rs.getBoolean("barter"), count);
+                case BY_PRICE -> buckets[rs.getInt("price_bucket")] = count;
+                default -> throw new IllegalStateException("Unexpected grouping " + rs.getInt("grouping_id"));
+            }
+        }, args);
+
+        categories.sort(Comparator.comparingLong(CategoryFacetDto::getCount).reversed());
+        return new ServiceFacetsDto(total[0], categories, types, statuses, barter, priceBuckets(priceBounds, buckets));
+    }
+
+    public static List<PriceBucketDto> priceBuckets(List<BigDecimal> bounds, long[] counts) {
+        List<PriceBucketDto> buckets = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            buckets.add(new PriceBucketDto(
+                i == 0 ? null : bounds.get(i - 1),
+                i == bounds.size() ? null : bounds.get(i),
+                counts[i]
+            ));
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,69 @@
+package org.moysha.managementservice.repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.moysha.managementservice.service.dto.ServiceFilter;
+
+/**
+ * Native WHERE clause for a {@link ServiceFilter}, for the JDBC queries that cannot go through
+ * the JPA specification.
+ */
+record ServiceFilterSql(String sql, Object[] args) {
+
+    static ServiceFilterSql of(ServiceFilter filter) {
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (filter != null) {
+            if (filter.getOwnerId() != null) {
+                conditions.add("owner_id = ?");
+                args.add(filter.getOwnerId());
+            }
+            if (filter.getCategoryId() != null) {
+                conditions.add("category_id = ?");
+                args.add(filter.getCategoryId());
+            }
+            if (filter.getType() != null) {
+                conditions.add("type = ?::service_type");
+                args.add(filter.getType().name().toLowerCase(Locale.ROOT));
+            }
+            if (filter.getStatus() != null) {
+                conditions.add("status = ?::service_status");
+                args.add(filter.getStatus().name().toLowerCase(Locale.ROOT));
+            }
+            if (filter.getTitleLike() != null && !filter.getTitleLike().isBlank()) {
+                conditions.add("title ILIKE ?");
+                args.add("%" + filter.getTitleLike() + "%");
+            }
+            if (filter.hasTitleFuzzy()) {
+                conditions.add("title % ?");
+                args.add(filter.getTitleFuzzy());
+            }
+            if (filter.hasFullText()) {
+                conditions.add("search_vector @@ websearch_to_tsquery('russian', ?)");
+                args.add(filter.getFullText());
+            }
+            if (filter.getMinPrice() != null) {
+                conditions.add("price >= ?");
+                args.add(filter.getMinPrice());
+            }
+            if (filter.getMaxPrice() != null) {
+                conditions.add("price <= ?");
+                args.add(filter.getMaxPrice());
+            }
+            if (Boolean.TRUE.equals(filter.getBarterOnly())) {
+                conditions.add("barter");
+            }
+            if (filter.getCreatedAfter() != null) {
+                conditions.add("created_at >= ?");
+                args.add(Timestamp.from(filter.getCreatedAfter()));
+            }
+            if (filter.getCreatedBefore() != null) {
+                conditions.add("created_at <= ?");
+                args.add(Timestamp.from(filter.getCreatedBefore()));
+            }
+        }
+        return new ServiceFilterSql(conditions.isEmpty() ? "true" : String.join(" AND ", conditions), args.toArray());
+    }
+}
@@ -0,0 +1,218 @@
+package org.moysha.managementservice.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.api.request.CreateServiceRequest;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.domain.service.ServiceType;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Bulk service creation. Validated rows are streamed with COPY into a transaction-scoped staging
+ * table and moved into {@code service} with one INSERT ... SELECT, which skips titles the owner
+ * already uses instead of failing the whole upload.
+ */
+@Repository
+public class ServiceIngestRepository {
+
+    private static final String CREATE_STAGING = """
+        CREATE TEMP TABLE service_ingest (
+            row_no      INT PRIMARY KEY,
+            id          INT            NOT NULL,
+            owner_id    INT            NOT NULL,
+            category_id INT            NOT NULL,
+            title       VARCHAR(255)   NOT NULL,
+            description VARCHAR(5000)  NOT NULL,
+            type        service_type   NOT NULL,
+            price       NUMERIC(10,2)  NOT NULL,
+            barter      BOOLEAN        NOT NULL,
+            place       VARCHAR(255)
+        ) ON COMMIT DROP
+        """;
+
+    private static final String COPY_STAGING = """
+        COPY service_ingest (row_no, id, owner_id, category_id, title, description, type, price, barter, place)
+        FROM STDIN WITH (FORMAT csv)
+        """;
+
+    // Staged rows without a match in "inserted" lost to an existing (owner_id, title).
+    private static final String PUBLISH = """
+        WITH inserted AS (
+            INSERT INTO service (id, owner_id, category_id, title, description, type, price, barter, place)
+            SELECT id, owner_id, category_id, title, description, type, price, barter, place
+            FROM service_ingest
+            ORDER BY row_no
+            ON CONFLICT ON CONSTRAINT unq_service_title_per_owner DO NOTHING
+            RETURNING id, owner_id, category_id, title, description, type, status, price, barter, place, created_at
+        )
+        SELECT i.row_no, s.id, s.owner_id, u.email AS owner_email, s.category_id, c.name AS category_name, s.title,
+               s.description, s.type::text AS type, s.status::text AS status, s.price, s.barter, s.place,
+               s.created_at
+        FROM service_ingest i
+        LEFT JOIN inserted s ON s.owner_id = i.owner_id AND s.title = i.title
+        LEFT JOIN app_user u ON u.id = s.owner_id
+        LEFT JOIN category c ON c.id = s.category_id
+        ORDER BY i.row_no
+        """;
+
+    private static final String NEXT_ID_BLOCKS = "SELECT nextval('service_id_seq') FROM generate_series(1, ?)";
+
+    // Must match INCREMENT BY of service_id_seq and allocationSize on ServiceEntity.
+    private static final int ID_BLOCK = 50;
+
+    private static final int COPY_BUFFER = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ServiceIngestRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void createStaging() {
+        jdbcTemplate.execute(CREATE_STAGING);
+    }
+
+    /**
+     * Maps each existing user id to whether the user is banned right now.
+     */
+    public Map<Long, Boolean> findOwners(Collection<Long> ids) {
+        Map<Long, Boolean> owners = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT id, coalesce(banned_till > now(), false) AS banned
+                FROM app_user
+                WHERE id = ANY(?::bigint[])""",
+            rs -> {
+                owners.put(rs.getLong("id"), rs.getBoolean("banned"));
+            },
+            (Object) ids.toArray(Long[]::new));
+        return owners;
+    }
+
+    public Set<Long> findCategories(Collection<Long> ids) {
+        return new HashSet<>(jdbcTemplate.queryForList("SELECT id FROM category WHERE id = ANY(?::bigint[])",
+            Long.class, (Object) ids.toArray(Long[]::new)));
+    }
+
+    public long stage(List<StagedService> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Iterator<Long> ids = allocateIds(rows.size()).iterator();
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING);
+            try {
+                StringBuilder buffer = new StringBuilder(COPY_BUFFER + 1024);
+                for (StagedService row : rows) {
+                    appendCsv(buffer, ids.next(), row);
+                    if (buffer.length() >= COPY_BUFFER) {
+                        write(copy, buffer);
+                    }
+                }
+                write(copy, buffer);
+                return copy.endCopy();
+            } finally {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+            }
+        });
+        return copied == null ? 0 : copied;
+    }
+
+    /**
+     * Inserts everything staged so far and reports, per staged row, the created service or null when
+     * the owner already has a service with that title.
+     */
+    public List<PublishedRow> publish() {
+        return jdbcTemplate.query(PUBLISH, (rs, rowNum) -> {
+            long id = rs.getLong("id");
+            if (rs.wasNull()) {
+                return new PublishedRow(rs.getInt("row_no"), null);
+            }
+            return new PublishedRow(rs.getInt("row_no"), new ServiceDto(
+                id,
+                rs.getLong("owner_id"),
+                rs.getString("owner_email"),
+                rs.getLong("category_id"),
+                rs.getString("category_name"),
+                rs.getString("title"),
+                rs.getString("description"),
+                ServiceType.valueOf(rs.getString("type").toUpperCase(Locale.ROOT)),
+                ServiceStatus.valueOf(rs.getString("status").toUpperCase(Locale.ROOT)),
+                rs.getBigDecimal("price"),
+                rs.getBoolean("barter"),
+                rs.getString("place"),
+                rs.getTimestamp("created_at").toInstant()
+            ));
+        });
+    }
+
+    /**
+     * Takes ids the way Hibernate's pooled optimizer does: each nextval reserves the block of
+     * {@link #ID_BLOCK} values ending at it. A column DEFAULT would spend a whole block per row. Ids
+     * left over in the last block, and those of rows that lose to an existing title, stay unused.
+     */
+    private List<Long> allocateIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blocks = (count - ids.size() + ID_BLOCK - 1) / ID_BLOCK;
+            for (Long hi : jdbcTemplate.queryForList(NEXT_ID_BLOCKS, Long.class, blocks)) {
+                // A fresh sequence starts at 1, whose block has no room below it.
+                for (long id = Math.max(1, hi - ID_BLOCK + 1); id <= hi && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void appendCsv(StringBuilder buffer, long id, StagedService row) {
+        CreateServiceRequest request = row.request();
+        buffer.append(row.row()).append(',')
+            .append(id).append(',')
+            .append(request.getOwnerId()).append(',')
+            .append(request.getCategoryId()).append(',');
+        appendQuoted(buffer, request.getTitle());
+        buffer.append(',');
+        appendQuoted(buffer, request.getDescription());
+        buffer.append(',')
+            .append(request.getType().name().toLowerCase(Locale.ROOT)).append(',')
+            .append(request.getPrice().toPlainString()).append(',')
+            .append(Boolean.TRUE.equals(request.getBarter())).append(',');
+        // An unquoted empty field is NULL in COPY's csv format.
+        if (request.getPlace() != null) {
+            appendQuoted(buffer, request.getPlace());
+        }
+        buffer.append('\n');
+    }
+
+    private static void appendQuoted(StringBuilder buffer, String value) {
+        buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static void write(CopyIn copy, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    public record StagedService(int row, CreateServiceRequest request) {
+    }
+
+    public record PublishedRow(int row, ServiceDto service) {
+    }
+}
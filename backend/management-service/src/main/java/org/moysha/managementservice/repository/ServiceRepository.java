@@ -1,11 +1,28 @@
 package org.moysha.managementservice.repository;
 
 import java.util.List;
+import java.util.Optional;
 import org.moysha.managementservice.domain.service.ServiceEntity;
+import org.moysha.managementservice.service.dto.Revision;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ServiceRepository extends JpaRepository<ServiceEntity, Long>, JpaSpecificationExecutor<ServiceEntity> {
+public interface ServiceRepository extends JpaRepository<ServiceEntity, Long>, JpaSpecificationExecutor<ServiceEntity>,
+    ServiceRepositoryCustom {
 
     List<ServiceEntity> findByOwner_Id(Long ownerId);
+
+    boolean existsByIdAndOwner_Id(Long id, Long ownerId);
+
+    // The representation embeds the category name and the owner's email, so their versions are part of the tag.
+    @Query("""
+        select new org.moysha.managementservice.service.dto.Revision(
+            concat(cast(s.version as String), '.', cast(c.version as String), '.', cast(u.version as String)),
+            greatest(s.updatedAt, c.updatedAt, u.updatedAt))
+        from ServiceEntity s join s.category c join s.owner u
+        where s.id = :id
+        """)
+    Optional<Revision> findRevision(@Param("id") Long id);
 }
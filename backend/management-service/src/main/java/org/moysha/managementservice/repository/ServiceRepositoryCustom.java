@@ -0,0 +1,20 @@
+package org.moysha.managementservice.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.domain.service.ServiceEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface ServiceRepositoryCustom {
+
+    List<ServiceDto> findDtos(Specification<ServiceEntity> spec, Sort sort, long offset, int limit);
+
+    List<ServiceDto> findDtosBySimilarity(Specification<ServiceEntity> spec, String title, long offset, int limit);
+
+    List<ServiceDto> findDtosByTextRank(Specification<ServiceEntity> spec, String text, long offset, int limit);
+
+    Map<Long, String> findSnippets(Collection<Long> serviceIds, String text);
+}
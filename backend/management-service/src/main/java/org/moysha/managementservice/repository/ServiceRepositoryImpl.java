@@ -0,0 +1,118 @@
+package org.moysha.managementservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.domain.service.ServiceEntity;
+import org.moysha.managementservice.domain.type.FullTextFunctionContributor;
+import org.moysha.managementservice.domain.type.TrigramFunctionContributor;
+import org.moysha.managementservice.domain.user.AppUserEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+public class ServiceRepositoryImpl implements ServiceRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ServiceDto> findDtos(Specification<ServiceEntity> spec, Sort sort, long offset, int limit) {
+        return select(spec, (root, cb) -> QueryUtils.toOrders(sort, root, cb), offset, limit);
+    }
+
+    @Override
+    public List<ServiceDto> findDtosBySimilarity(Specification<ServiceEntity> spec, String title, long offset, int limit) {
+        return select(spec, (root, cb) -> List.of(
+            cb.desc(cb.function(TrigramFunctionContributor.TRGM_SIMILARITY, Float.class,
+                root.get("title"), ((HibernateCriteriaBuilder) cb).value(title))),
+            cb.desc(root.get("createdAt")),
+            cb.desc(root.get("id"))
+        ), offset, limit);
+    }
+
+    @Override
+    public List<ServiceDto> findDtosByTextRank(Specification<ServiceEntity> spec, String text, long offset, int limit) {
+        return select(spec, (root, cb) -> List.of(
+            cb.desc(cb.function(FullTextFunctionContributor.FTS_RANK, Float.class,
+                root.get("searchVector"), ((HibernateCriteriaBuilder) cb).value(text))),
+            cb.desc(root.get("createdAt")),
+            cb.desc(root.get("id"))
+        ), offset, limit);
+    }
+
+    @Override
+    public Map<Long, String> findSnippets(Collection<Long> serviceIds, String text) {
+        Map<Long, String> snippets = new HashMap<>();
+        if (serviceIds.isEmpty()) {
+            return snippets;
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ServiceEntity> root = query.from(ServiceEntity.class);
+        query.multiselect(
+            root.get("id"),
+            cb.function(FullTextFunctionContributor.FTS_HEADLINE, String.class,
+                root.get("description"), ((HibernateCriteriaBuilder) cb).value(text))
+        );
+        query.where(root.get("id").in(serviceIds));
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            snippets.put(row.get(0, Long.class), row.get(1, String.class));
+        }
+        return snippets;
+    }
+
+    private List<ServiceDto> select(Specification<ServiceEntity> spec,
+                                    BiFunction<Root<ServiceEntity>, CriteriaBuilder, List<Order>> orders,
+                                    long offset,
+                                    int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ServiceDto> query = cb.createQuery(ServiceDto.class);
+        Root<ServiceEntity> root = query.from(ServiceEntity.class);
+        Join<ServiceEntity, AppUserEntity> owner = root.join("owner");
+        Join<ServiceEntity, CategoryEntity> category = root.join("category");
+
+        query.select(cb.construct(ServiceDto.class,
+            root.get("id"),
+            owner.get("id"),
+            owner.get("email"),
+            category.get("id"),
+            category.get("name"),
+            root.get("title"),
+            root.get("description"),
+            root.get("type"),
+            root.get("status"),
+            root.get("price"),
+            root.get("barter"),
+            root.get("place"),
+            root.get("createdAt")
+        ));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        List<Order> orderBy = orders.apply(root, cb);
+        if (!orderBy.isEmpty()) {
+            query.orderBy(orderBy);
+        }
+
+        return entityManager.createQuery(query)
+            .setFirstResult(Math.toIntExact(offset))
+            .setMaxResults(limit)
+            .getResultList();
+    }
+}
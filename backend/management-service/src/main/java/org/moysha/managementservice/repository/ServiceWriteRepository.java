@@ -0,0 +1,224 @@
+package org.moysha.managementservice.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.api.request.UpdateServiceRequest;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.domain.service.ServiceType;
+import org.moysha.managementservice.service.dto.ServiceScope;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Single-statement catalog mutations. The ownership check is part of the WHERE clause and the new
+ * state comes back through RETURNING, so an accepted change costs one round trip; an empty result
+ * means the row is missing or the condition did not hold.
+ */
+@Repository
+public class ServiceWriteRepository {
+
+    // Locks the row and keeps its pre-update values, which RETURNING alone cannot see.
+    private static final String UPDATE_FIELDS = """
+        WITH target AS (
+            SELECT id, category_id, status FROM service
+            WHERE id = ? AND owner_id = ?
+            FOR UPDATE
+        )
+        UPDATE service s
+        SET category_id = COALESCE(?, s.category_id),
+            title       = COALESCE(?, s.title),
+            description = COALESCE(?, s.description),
+            price       = COALESCE(?, s.price),
+            barter      = COALESCE(?, s.barter),
+            place       = COALESCE(?, s.place)
+        FROM target t, app_user u, category c
+        WHERE s.id = t.id
+          AND u.id = s.owner_id
+          AND c.id = COALESCE(?, t.category_id)
+        RETURNING t.category_id AS previous_category_id, t.status::text AS previous_status, %s
+        """;
+
+    private static final String UPDATE_STATUS = """
+        WITH target AS (
+            SELECT id, category_id, status FROM service
+            WHERE id = ? AND (?::bigint IS NULL OR owner_id = ?)
+            FOR UPDATE
+        )
+        UPDATE service s
+        SET status = ?::service_status
+        FROM target t, app_user u, category c
+        WHERE s.id = t.id
+          AND u.id = s.owner_id
+          AND c.id = s.category_id
+        RETURNING t.category_id AS previous_category_id, t.status::text AS previous_status, %s
+        """;
+
+    // Rows already in the target status are skipped; locks are taken in id order so overlapping bulk
+    // operations cannot deadlock.
+    private static final String LOCK_SCOPE = """
+        WITH target AS (
+            SELECT id, status FROM service
+            WHERE %s AND status <> ?::service_status
+            ORDER BY id
+            FOR UPDATE
+        )
+        """;
+
+    private static final String BULK_STATUS = LOCK_SCOPE + """
+        UPDATE service s
+        SET status = ?::service_status
+        FROM target t, app_user u, category c
+        WHERE s.id = t.id
+          AND u.id = s.owner_id
+          AND c.id = s.category_id
+        RETURNING s.category_id AS previous_category_id, t.status::text AS previous_status, %s
+        """;
+
+    private static final String BULK_STATUS_KEYS = LOCK_SCOPE + """
+        UPDATE service s
+        SET status = ?::service_status
+        FROM target t
+        WHERE s.id = t.id
+        RETURNING s.id, s.owner_id, s.category_id, s.type::text AS type, t.status::text AS previous_status
+        """;
+
+    private static final String DELETE = """
+        DELETE FROM service
+        WHERE id = ? AND owner_id = ?
+        RETURNING owner_id, category_id, type::text AS type, status::text AS status
+        """;
+
+    private static final String RETURNED_COLUMNS = """
+        s.id, s.owner_id, u.email AS owner_email, s.category_id, c.name AS category_name, s.title,
+        s.description, s.type::text AS type, s.status::text AS status, s.price, s.barter, s.place, s.created_at""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ServiceWriteRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Applies the non-null fields of the request when {@code ownerId} owns the service and the target
+     * category exists.
+     */
+    public Optional<UpdatedService> updateFields(Long serviceId, Long ownerId, UpdateServiceRequest request) {
+        return single(jdbcTemplate.query(UPDATE_FIELDS.formatted(RETURNED_COLUMNS), this::mapUpdated,
+            serviceId,
+            ownerId,
+            new SqlParameterValue(Types.BIGINT, request.getCategoryId()),
+            new SqlParameterValue(Types.VARCHAR, request.getTitle()),
+            new SqlParameterValue(Types.VARCHAR, request.getDescription()),
+            new SqlParameterValue(Types.NUMERIC, request.getPrice()),
+            new SqlParameterValue(Types.BOOLEAN, request.getBarter()),
+            new SqlParameterValue(Types.VARCHAR, request.getPlace()),
+            new SqlParameterValue(Types.BIGINT, request.getCategoryId())
+        ));
+    }
+
+    /**
+     * Sets the status; with a non-null {@code ownerId} only when that user owns the service.
+     */
+    public Optional<UpdatedService> updateStatus(Long serviceId, Long ownerId, ServiceStatus status) {
+        SqlParameterValue owner = new SqlParameterValue(Types.BIGINT, ownerId);
+        return single(jdbcTemplate.query(UPDATE_STATUS.formatted(RETURNED_COLUMNS), this::mapUpdated,
+            serviceId, owner, owner, status.name().toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Sets the status of every service in scope that does not have it yet, returning the changed rows.
+     */
+    public List<UpdatedService> updateStatus(ServiceScope scope, ServiceStatus status) {
+        List<Object> args = new ArrayList<>();
+        String where = where(scope, args);
+        String value = status.name().toLowerCase(Locale.ROOT);
+        args.add(value);
+        args.add(value);
+        return jdbcTemplate.query(BULK_STATUS.formatted(where, RETURNED_COLUMNS), this::mapUpdated, args.toArray());
+    }
+
+    /**
+     * Same change as {@link #updateStatus(ServiceScope, ServiceStatus)}, returning only what cache
+     * invalidation needs instead of full rows.
+     */
+    public List<StatusChange> updateStatusKeys(ServiceScope scope, ServiceStatus status) {
+        List<Object> args = new ArrayList<>();
+        String where = where(scope, args);
+        String value = status.name().toLowerCase(Locale.ROOT);
+        args.add(value);
+        args.add(value);
+        return jdbcTemplate.query(BULK_STATUS_KEYS.formatted(where), (rs, rowNum) -> new StatusChange(
+            rs.getLong("id"),
+            rs.getLong("owner_id"),
+            rs.getLong("category_id"),
+            ServiceType.valueOf(rs.getString("type").toUpperCase(Locale.ROOT)),
+            ServiceStatus.valueOf(rs.getString("previous_status").toUpperCase(Locale.ROOT))
+        ), args.toArray());
+    }
+
+    public Optional<DeletedService> delete(Long serviceId, Long ownerId) {
+        return single(jdbcTemplate.query(DELETE, (rs, rowNum) -> new DeletedService(
+            rs.getLong("owner_id"),
+            rs.getLong("category_id"),
+            ServiceType.valueOf(rs.getString("type").toUpperCase(Locale.ROOT)),
+            ServiceStatus.valueOf(rs.getString("status").toUpperCase(Locale.ROOT))
+        ), serviceId, ownerId));
+    }
+
+    private UpdatedService mapUpdated(ResultSet rs, int rowNum) throws SQLException {
+        ServiceDto service = new ServiceDto(
+            rs.getLong("id"),
+            rs.getLong("owner_id"),
+            rs.getString("owner_email"),
+            rs.getLong("category_id"),
+            rs.getString("category_name"),
+            rs.getString("title"),
+            rs.getString("description"),
+            ServiceType.valueOf(rs.getString("type").toUpperCase(Locale.ROOT)),
+            ServiceStatus.valueOf(rs.getString("status").toUpperCase(Locale.ROOT)),
+            rs.getBigDecimal("price"),
+            rs.getBoolean("barter"),
+            rs.getString("place"),
+            rs.getTimestamp("created_at").toInstant()
+        );
+        return new UpdatedService(
+            rs.getLong("previous_category_id"),
+            ServiceStatus.valueOf(rs.getString("previous_status").toUpperCase(Locale.ROOT)),
+            service
+        );
+    }
+
+    private static String where(ServiceScope scope, List<Object> args) {
+        if (scope.ownerId() != null) {
+            args.add(scope.ownerId());
+            return "owner_id = ?";
+        }
+        if (scope.categoryId() != null) {
+            args.add(scope.categoryId());
+            return "category_id = ?";
+        }
+        args.add(scope.ids().toArray(Long[]::new));
+        return "id = ANY(?::bigint[])";
+    }
+
+    private static <T> Optional<T> single(List<T> rows) {
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+
+    public record UpdatedService(Long previousCategoryId, ServiceStatus previousStatus, ServiceDto service) {
+    }
+
+    public record StatusChange(Long id, Long ownerId, Long categoryId, ServiceType type,
+                               ServiceStatus previousStatus) {
+    }
+
+    public record DeletedService(Long ownerId, Long categoryId, ServiceType type, ServiceStatus status) {
+    }
+}
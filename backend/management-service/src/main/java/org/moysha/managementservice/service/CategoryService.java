@@ -1,13 +1,21 @@
 package org.moysha.managementservice.service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 import org.moysha.managementservice.api.dto.CategoryDto;
 import org.moysha.managementservice.api.request.CategoryRequest;
 import org.moysha.managementservice.domain.category.CategoryEntity;
 import org.moysha.managementservice.exception.ConflictException;
 import org.moysha.managementservice.exception.NotFoundException;
 import org.moysha.managementservice.repository.CategoryRepository;
+import org.moysha.managementservice.service.dto.Revision;
+import org.moysha.managementservice.service.dto.VersionSummary;
+import org.moysha.managementservice.service.invalidation.EntityKind;
+import org.moysha.managementservice.service.invalidation.InvalidationBus;
+import org.moysha.managementservice.service.search.CategoryListCache;
+import org.moysha.managementservice.service.search.SearchResultCache;
+import org.moysha.managementservice.service.search.ServiceDetailCache;
+import org.moysha.managementservice.service.search.ServiceSearchIndex;
+import org.moysha.managementservice.service.search.ServiceSlot;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,16 +23,38 @@ import org.springframework.transaction.annotation.Transactional;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ServiceSearchIndex searchIndex;
+    private final SearchResultCache searchCache;
+    private final ServiceDetailCache detailCache;
+    private final CategoryListCache categoryCache;
+    private final InvalidationBus invalidationBus;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository,
+                           ServiceSearchIndex searchIndex,
+                           SearchResultCache searchCache,
+                           ServiceDetailCache detailCache,
+                           CategoryListCache categoryCache,
+                           InvalidationBus invalidationBus) {
         this.categoryRepository = categoryRepository;
+        this.searchIndex = searchIndex;
+        this.searchCache = searchCache;
+        this.detailCache = detailCache;
+        this.categoryCache = categoryCache;
+        this.invalidationBus = invalidationBus;
     }
 
-    @Transactional(readOnly = true)
     public List<CategoryDto> findAll() {
-        return categoryRepository.findAll().stream()
-            .map(entity -> new CategoryDto(entity.getId(), entity.getName()))
-            .collect(Collectors.toList());
+        return categoryCache.get(() -> categoryRepository.findAll().stream()
+            .map(this::toDto)
+            .toList());
+    }
+
+    public Revision revision() {
+        return categoryRepository.summarizeVersions().toRevision();
+    }
+
+    public Revision revisionOf(List<CategoryDto> categories) {
+        return VersionSummary.of(categories, CategoryDto::getId, CategoryDto::getVersion).toRevision();
     }
 
     @Transactional
@@ -35,7 +65,10 @@ public class CategoryService {
             });
         CategoryEntity entity = new CategoryEntity();
         entity.setName(request.getName());
-        return toDto(categoryRepository.save(entity));
+        categoryCache.invalidate();
+        CategoryEntity saved = categoryRepository.save(entity);
+        invalidationBus.publish(EntityKind.CATEGORY, saved.getId());
+        return toDto(saved);
     }
 
     @Transactional
@@ -50,6 +83,11 @@ public class CategoryService {
                     }
                 });
             entity.setName(request.getName());
+            searchIndex.renameCategory(id, request.getName());
+            searchCache.invalidate(ServiceSlot.ofCategory(id));
+            detailCache.invalidateCategory(id);
+            categoryCache.invalidate();
+            invalidationBus.publish(EntityKind.CATEGORY, id);
         }
         return toDto(categoryRepository.save(entity));
     }
@@ -60,9 +98,11 @@ public class CategoryService {
             throw new NotFoundException("Category not found: " + id);
         }
         categoryRepository.deleteById(id);
+        categoryCache.invalidate();
+        invalidationBus.publish(EntityKind.CATEGORY, id);
     }
 
     private CategoryDto toDto(CategoryEntity entity) {
-        return new CategoryDto(entity.getId(), entity.getName());
+        return new CategoryDto(entity.getId(), entity.getName(), entity.getVersion());
     }
 }
@@ -1,15 +1,14 @@
 package org.moysha.managementservice.service;
 
+import java.time.Instant;
 import org.moysha.managementservice.api.dto.FavoriteDto;
 import org.moysha.managementservice.api.mapper.ServiceMapper;
 import org.moysha.managementservice.domain.favorite.FavoriteEntity;
-import org.moysha.managementservice.domain.favorite.FavoriteKey;
-import org.moysha.managementservice.domain.service.ServiceEntity;
-import org.moysha.managementservice.domain.user.AppUserEntity;
 import org.moysha.managementservice.exception.ConflictException;
 import org.moysha.managementservice.exception.NotFoundException;
 import org.moysha.managementservice.repository.AppUserRepository;
 import org.moysha.managementservice.repository.FavoriteRepository;
+import org.moysha.managementservice.repository.ReactionWriteRepository;
 import org.moysha.managementservice.repository.ServiceRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,33 +19,29 @@ import org.springframework.transaction.annotation.Transactional;
 public class FavoriteService {
 
     private final FavoriteRepository favoriteRepository;
+    private final ReactionWriteRepository reactionWriteRepository;
     private final ServiceRepository serviceRepository;
     private final AppUserRepository appUserRepository;
+    private final ServiceCatalogService serviceCatalogService;
 
     public FavoriteService(FavoriteRepository favoriteRepository,
+                           ReactionWriteRepository reactionWriteRepository,
                            ServiceRepository serviceRepository,
-                           AppUserRepository appUserRepository) {
+                           AppUserRepository appUserRepository,
+                           ServiceCatalogService serviceCatalogService) {
         this.favoriteRepository = favoriteRepository;
+        this.reactionWriteRepository = reactionWriteRepository;
         this.serviceRepository = serviceRepository;
         this.appUserRepository = appUserRepository;
+        this.serviceCatalogService = serviceCatalogService;
     }
 
-    @Transactional
+    // Not @Transactional: the insert is a single statement, and the card is read after it commits,
+    // when the detail cache may serve it.
     public FavoriteDto addToFavorites(Long serviceId, Long userId) {
-        if (favoriteRepository.existsByUser_IdAndService_Id(userId, serviceId)) {
-            throw new ConflictException("Service already in favorites");
-        }
-        AppUserEntity user = appUserRepository.findById(userId)
-            .orElseThrow(() -> new NotFoundException("User not found: " + userId));
-        ServiceEntity service = serviceRepository.findById(serviceId)
-            .orElseThrow(() -> new NotFoundException("Service not found: " + serviceId));
-
-        FavoriteEntity entity = new FavoriteEntity();
-        entity.setId(new FavoriteKey(user.getId(), service.getId()));
-        entity.setUser(user);
-        entity.setService(service);
-
-        return toDto(favoriteRepository.save(entity));
+        Instant createdAt = reactionWriteRepository.insertFavorite(userId, serviceId)
+            .orElseThrow(() -> rejection(serviceId, userId));
+        return new FavoriteDto(userId, serviceCatalogService.getById(serviceId), createdAt);
     }
 
     @Transactional
@@ -66,4 +61,15 @@ public class FavoriteService {
     private FavoriteDto toDto(FavoriteEntity entity) {
         return new FavoriteDto(entity.getUser().getId(), ServiceMapper.toDto(entity.getService()), entity.getCreatedAt());
     }
+
+    // Works out why the insert returned no row; the checks run only on that path.
+    private RuntimeException rejection(Long serviceId, Long userId) {
+        if (!appUserRepository.existsById(userId)) {
+            return new NotFoundException("User not found: " + userId);
+        }
+        if (!serviceRepository.existsById(serviceId)) {
+            return new NotFoundException("Service not found: " + serviceId);
+        }
+        return new ConflictException("Service already in favorites");
+    }
 }
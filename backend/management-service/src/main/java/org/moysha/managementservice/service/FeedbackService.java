@@ -1,17 +1,19 @@
 package org.moysha.managementservice.service;
 
 import org.moysha.managementservice.api.dto.FeedbackDto;
+import org.moysha.managementservice.api.dto.PageDto;
 import org.moysha.managementservice.api.mapper.FeedbackMapper;
 import org.moysha.managementservice.api.request.CreateFeedbackRequest;
 import org.moysha.managementservice.api.request.UpdateFeedbackRequest;
 import org.moysha.managementservice.domain.feedback.FeedbackEntity;
-import org.moysha.managementservice.domain.service.ServiceEntity;
-import org.moysha.managementservice.domain.user.AppUserEntity;
 import org.moysha.managementservice.exception.BadRequestException;
 import org.moysha.managementservice.exception.NotFoundException;
-import org.moysha.managementservice.repository.AppUserRepository;
 import org.moysha.managementservice.repository.FeedbackRepository;
+import org.moysha.managementservice.repository.ReactionWriteRepository;
+import org.moysha.managementservice.repository.RowEstimateRepository;
 import org.moysha.managementservice.repository.ServiceRepository;
+import org.moysha.managementservice.service.dto.CountMode;
+import org.moysha.managementservice.service.dto.Revision;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -21,35 +23,28 @@ import org.springframework.transaction.annotation.Transactional;
 public class FeedbackService {
 
     private final FeedbackRepository feedbackRepository;
+    private final ReactionWriteRepository reactionWriteRepository;
     private final ServiceRepository serviceRepository;
-    private final AppUserRepository appUserRepository;
+    private final RowEstimateRepository rowEstimateRepository;
+    private final PageCounter pageCounter;
 
     public FeedbackService(FeedbackRepository feedbackRepository,
+                           ReactionWriteRepository reactionWriteRepository,
                            ServiceRepository serviceRepository,
-                           AppUserRepository appUserRepository) {
+                           RowEstimateRepository rowEstimateRepository,
+                           PageCounter pageCounter) {
         this.feedbackRepository = feedbackRepository;
+        this.reactionWriteRepository = reactionWriteRepository;
         this.serviceRepository = serviceRepository;
-        this.appUserRepository = appUserRepository;
+        this.rowEstimateRepository = rowEstimateRepository;
+        this.pageCounter = pageCounter;
     }
 
     @Transactional
     public FeedbackDto create(Long serviceId, CreateFeedbackRequest request) {
-        ServiceEntity service = serviceRepository.findById(serviceId)
-            .orElseThrow(() -> new NotFoundException("Service not found: " + serviceId));
-        if (service.getOwner().getId().equals(request.getSenderId())) {
-            throw new BadRequestException("Owner cannot rate own service");
-        }
-        AppUserEntity sender = appUserRepository.findById(request.getSenderId())
-            .orElseThrow(() -> new NotFoundException("User not found: " + request.getSenderId()));
-
-        FeedbackEntity entity = feedbackRepository.findBySender_IdAndService_Id(request.getSenderId(), serviceId)
-            .orElseGet(FeedbackEntity::new);
-        entity.setService(service);
-        entity.setSender(sender);
-        entity.setRate(request.getRate());
-        entity.setReview(request.getReview());
-
-        return FeedbackMapper.toDto(feedbackRepository.save(entity));
+        return reactionWriteRepository
+            .upsertFeedback(serviceId, request.getSenderId(), request.getRate(), request.getReview())
+            .orElseThrow(() -> rejection(serviceId, request.getSenderId()));
     }
 
     @Transactional
@@ -75,9 +70,34 @@ public class FeedbackService {
         feedbackRepository.delete(entity);
     }
 
+    public Revision revision(Long serviceId) {
+        return feedbackRepository.summarizeVersionsByService(serviceId).toRevision();
+    }
+
     @Transactional(readOnly = true)
     public Page<FeedbackDto> getByService(Long serviceId, Pageable pageable) {
         return feedbackRepository.findByService_Id(serviceId, pageable)
             .map(FeedbackMapper::toDto);
     }
+
+    @Transactional(readOnly = true)
+    public PageDto<FeedbackDto> getByService(Long serviceId, Pageable pageable, CountMode countMode) {
+        return pageCounter.toPage(
+            feedbackRepository.findSliceByService_Id(serviceId, pageable).map(FeedbackMapper::toDto),
+            countMode,
+            () -> feedbackRepository.countByService_Id(serviceId),
+            () -> rowEstimateRepository.estimateFeedbackByService(serviceId)
+        );
+    }
+
+    // Works out why the upsert returned no row; the checks run only on that path.
+    private RuntimeException rejection(Long serviceId, Long senderId) {
+        if (!serviceRepository.existsById(serviceId)) {
+            return new NotFoundException("Service not found: " + serviceId);
+        }
+        if (serviceRepository.existsByIdAndOwner_Id(serviceId, senderId)) {
+            return new BadRequestException("Owner cannot rate own service");
+        }
+        return new NotFoundException("User not found: " + senderId);
+    }
 }
@@ -0,0 +1,47 @@
+package org.moysha.managementservice.service;
+
+import java.util.function.LongSupplier;
+import org.moysha.managementservice.api.dto.PageDto;
+import org.moysha.managementservice.config.PagingSettings;
+import org.moysha.managementservice.service.dto.CountMode;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PageCounter {
+
+    private final PagingSettings settings;
+
+    public PageCounter(PagingSettings settings) {
+        this.settings = settings;
+    }
+
+    public <T> PageDto<T> toPage(Slice<T> slice,
+                                 CountMode mode,
+                                 LongSupplier exactCount,
+                                 LongSupplier estimatedCount) {
+        long offset = slice.getPageable().isPaged() ? slice.getPageable().getOffset() : 0;
+        long seen = offset + slice.getNumberOfElements();
+        // On the last page the total is already known, so no mode needs an extra query there.
+        boolean lastPage = !slice.hasNext() && (slice.hasContent() || offset == 0);
+
+        Long total = null;
+        boolean approximate = false;
+        switch (mode) {
+            case NONE -> {
+            }
+            case EXACT -> total = lastPage ? seen : exactCount.getAsLong();
+            case ESTIMATED -> {
+                if (lastPage) {
+                    total = seen;
+                } else {
+                    long lowerBound = slice.hasNext() ? seen + 1 : seen;
+                    total = Math.max(Math.min(estimatedCount.getAsLong(), settings.getEstimateCap()), lowerBound);
+                    approximate = true;
+                }
+            }
+        }
+        return new PageDto<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), total,
+            approximate);
+    }
+}
@@ -1,17 +1,19 @@
 package org.moysha.managementservice.service;
 
+import org.moysha.managementservice.api.dto.PageDto;
 import org.moysha.managementservice.api.dto.ResponseDto;
 import org.moysha.managementservice.api.request.CreateResponseRequest;
 import org.moysha.managementservice.domain.response.ResponseEntity;
 import org.moysha.managementservice.domain.response.ResponseStatus;
-import org.moysha.managementservice.domain.service.ServiceEntity;
-import org.moysha.managementservice.domain.user.AppUserEntity;
 import org.moysha.managementservice.exception.BadRequestException;
 import org.moysha.managementservice.exception.ConflictException;
 import org.moysha.managementservice.exception.NotFoundException;
 import org.moysha.managementservice.repository.AppUserRepository;
+import org.moysha.managementservice.repository.ReactionWriteRepository;
 import org.moysha.managementservice.repository.ResponseRepository;
+import org.moysha.managementservice.repository.RowEstimateRepository;
 import org.moysha.managementservice.repository.ServiceRepository;
+import org.moysha.managementservice.service.dto.CountMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -21,37 +23,30 @@ import org.springframework.transaction.annotation.Transactional;
 public class ResponseService {
 
     private final ResponseRepository responseRepository;
+    private final ReactionWriteRepository reactionWriteRepository;
     private final ServiceRepository serviceRepository;
     private final AppUserRepository appUserRepository;
+    private final RowEstimateRepository rowEstimateRepository;
+    private final PageCounter pageCounter;
 
     public ResponseService(ResponseRepository responseRepository,
+                           ReactionWriteRepository reactionWriteRepository,
                            ServiceRepository serviceRepository,
-                           AppUserRepository appUserRepository) {
+                           AppUserRepository appUserRepository,
+                           RowEstimateRepository rowEstimateRepository,
+                           PageCounter pageCounter) {
         this.responseRepository = responseRepository;
+        this.reactionWriteRepository = reactionWriteRepository;
         this.serviceRepository = serviceRepository;
         this.appUserRepository = appUserRepository;
+        this.rowEstimateRepository = rowEstimateRepository;
+        this.pageCounter = pageCounter;
     }
 
     @Transactional
     public ResponseDto respond(Long serviceId, CreateResponseRequest request) {
-        ServiceEntity service = serviceRepository.findById(serviceId)
-            .orElseThrow(() -> new NotFoundException("Service not found: " + serviceId));
-        if (service.getOwner().getId().equals(request.getSenderId())) {
-            throw new BadRequestException("Owner cannot respond to own service");
-        }
-        AppUserEntity sender = appUserRepository.findById(request.getSenderId())
-            .orElseThrow(() -> new NotFoundException("User not found: " + request.getSenderId()));
-
-        ResponseEntity entity = responseRepository.findBySender_IdAndService_Id(request.getSenderId(), serviceId)
-            .orElseGet(ResponseEntity::new);
-        if (entity.getId() != null && entity.getStatus() == ResponseStatus.ACTIVE) {
-            throw new ConflictException("Response already exists");
-        }
-        entity.setService(service);
-        entity.setSender(sender);
-        entity.setStatus(ResponseStatus.ACTIVE);
-
-        return toDto(responseRepository.save(entity));
+        return reactionWriteRepository.upsertResponse(serviceId, request.getSenderId())
+            .orElseThrow(() -> rejection(serviceId, request.getSenderId()));
     }
 
     @Transactional(readOnly = true)
@@ -60,6 +55,16 @@ public class ResponseService {
             .map(this::toDto);
     }
 
+    @Transactional(readOnly = true)
+    public PageDto<ResponseDto> getResponses(Long serviceId, Pageable pageable, CountMode countMode) {
+        return pageCounter.toPage(
+            responseRepository.findSliceByService_Id(serviceId, pageable).map(this::toDto),
+            countMode,
+            () -> responseRepository.countByService_Id(serviceId),
+            () -> rowEstimateRepository.estimateResponsesByService(serviceId)
+        );
+    }
+
     @Transactional(readOnly = true)
     public Page<ResponseDto> getResponsesByStatus(Long serviceId, ResponseStatus status, Pageable pageable) {
         return responseRepository.findByService_IdAndStatus(serviceId, status, pageable)
@@ -110,6 +115,20 @@ public class ResponseService {
         return toDto(responseRepository.save(entity));
     }
 
+    // Works out why the upsert returned no row; the checks run only on that path.
+    private RuntimeException rejection(Long serviceId, Long senderId) {
+        if (!serviceRepository.existsById(serviceId)) {
+            return new NotFoundException("Service not found: " + serviceId);
+        }
+        if (serviceRepository.existsByIdAndOwner_Id(serviceId, senderId)) {
+            return new BadRequestException("Owner cannot respond to own service");
+        }
+        if (!appUserRepository.existsById(senderId)) {
+            return new NotFoundException("User not found: " + senderId);
+        }
+        return new ConflictException("Response already exists");
+    }
+
     private ResponseDto toDto(ResponseEntity entity) {
         return new ResponseDto(
             entity.getId(),
@@ -1,52 +1,123 @@
 package org.moysha.managementservice.service;
 
-import java.util.Objects;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.moysha.managementservice.api.dto.BulkStatusResultDto;
+import org.moysha.managementservice.api.dto.CursorPageDto;
+import org.moysha.managementservice.api.dto.PageDto;
 import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.api.dto.ServiceFacetsDto;
 import org.moysha.managementservice.api.mapper.ServiceMapper;
 import org.moysha.managementservice.api.request.CreateServiceRequest;
 import org.moysha.managementservice.api.request.UpdateServiceRequest;
-import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.config.FacetSettings;
 import org.moysha.managementservice.domain.service.ServiceEntity;
 import org.moysha.managementservice.domain.service.ServiceStatus;
-import org.moysha.managementservice.domain.user.AppUserEntity;
+import org.moysha.managementservice.domain.type.FullTextFunctionContributor;
+import org.moysha.managementservice.domain.type.TrigramFunctionContributor;
 import org.moysha.managementservice.domain.user.UserRole;
 import org.moysha.managementservice.exception.BadRequestException;
+import org.moysha.managementservice.exception.ConflictException;
 import org.moysha.managementservice.exception.NotFoundException;
 import org.moysha.managementservice.repository.AppUserRepository;
 import org.moysha.managementservice.repository.CategoryRepository;
+import org.moysha.managementservice.repository.RowEstimateRepository;
+import org.moysha.managementservice.repository.ServiceFacetRepository;
 import org.moysha.managementservice.repository.ServiceRepository;
+import org.moysha.managementservice.repository.ServiceWriteRepository;
+import org.moysha.managementservice.service.dto.CountMode;
+import org.moysha.managementservice.service.dto.Revision;
+import org.moysha.managementservice.service.dto.ServiceCursor;
 import org.moysha.managementservice.service.dto.ServiceFilter;
+import org.moysha.managementservice.service.dto.ServiceScope;
+import org.moysha.managementservice.service.dto.ServiceSort;
+import org.moysha.managementservice.service.event.ServiceCreated;
+import org.moysha.managementservice.service.event.ServiceDeleted;
+import org.moysha.managementservice.service.event.ServiceStatusChanged;
+import org.moysha.managementservice.service.event.ServiceUpdated;
+import org.moysha.managementservice.service.search.SearchResultCache;
+import org.moysha.managementservice.service.search.ServiceDetailCache;
+import org.moysha.managementservice.service.search.ServiceSearchIndex;
+import org.moysha.managementservice.service.search.ServiceSlot;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class ServiceCatalogService {
 
+    private static final String OWNER_FK = "service_owner_id_fkey";
+    private static final String CATEGORY_FK = "service_category_id_fkey";
+
     private final ServiceRepository serviceRepository;
+    private final ServiceWriteRepository serviceWriteRepository;
     private final CategoryRepository categoryRepository;
     private final AppUserRepository appUserRepository;
+    private final RowEstimateRepository rowEstimateRepository;
+    private final PageCounter pageCounter;
+    private final ServiceSearchIndex searchIndex;
+    private final ServiceFacetRepository serviceFacetRepository;
+    private final FacetSettings facetSettings;
+    private final SearchResultCache searchCache;
+    private final ServiceDetailCache detailCache;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ApplicationEventPublisher events;
 
     public ServiceCatalogService(ServiceRepository serviceRepository,
+                                 ServiceWriteRepository serviceWriteRepository,
                                  CategoryRepository categoryRepository,
-                                 AppUserRepository appUserRepository) {
+                                 AppUserRepository appUserRepository,
+                                 RowEstimateRepository rowEstimateRepository,
+                                 PageCounter pageCounter,
+                                 ServiceSearchIndex searchIndex,
+                                 ServiceFacetRepository serviceFacetRepository,
+                                 FacetSettings facetSettings,
+                                 SearchResultCache searchCache,
+                                 ServiceDetailCache detailCache,
+                                 PlatformTransactionManager transactionManager,
+                                 ApplicationEventPublisher events) {
         this.serviceRepository = serviceRepository;
+        this.serviceWriteRepository = serviceWriteRepository;
         this.categoryRepository = categoryRepository;
         this.appUserRepository = appUserRepository;
+        this.rowEstimateRepository = rowEstimateRepository;
+        this.pageCounter = pageCounter;
+        this.searchIndex = searchIndex;
+        this.serviceFacetRepository = serviceFacetRepository;
+        this.facetSettings = facetSettings;
+        this.searchCache = searchCache;
+        this.detailCache = detailCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.events = events;
     }
 
     @Transactional
     public ServiceDto create(CreateServiceRequest request) {
-        AppUserEntity owner = appUserRepository.findById(request.getOwnerId())
-            .orElseThrow(() -> new NotFoundException("Owner not found: " + request.getOwnerId()));
-        CategoryEntity category = categoryRepository.findById(request.getCategoryId())
-            .orElseThrow(() -> new NotFoundException("Category not found: " + request.getCategoryId()));
-
+        // References only: the foreign keys check existence, and the mapper below reads owner and
+        // category through the second-level cache.
         ServiceEntity entity = new ServiceEntity();
-        entity.setOwner(owner);
-        entity.setCategory(category);
+        entity.setOwner(appUserRepository.getReferenceById(request.getOwnerId()));
+        entity.setCategory(categoryRepository.getReferenceById(request.getCategoryId()));
         entity.setTitle(request.getTitle());
         entity.setDescription(request.getDescription());
         entity.setType(request.getType());
@@ -55,110 +126,344 @@ public class ServiceCatalogService {
         entity.setPlace(request.getPlace());
         entity.setStatus(ServiceStatus.ACTIVE);
 
-        return ServiceMapper.toDto(serviceRepository.save(entity));
+        ServiceEntity saved;
+        try {
+            saved = serviceRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw missingReference(e, request);
+        }
+        ServiceDto created = ServiceMapper.toDto(saved);
+        // This replica's caches drop the change right after commit, so the writer reads it back at
+        // once; the search index and the other replicas catch up through the event.
+        searchCache.invalidate(ServiceSlot.of(created));
+        events.publishEvent(new ServiceCreated(created.getId(), ServiceSlot.of(created)));
+        return created;
     }
 
     @Transactional
     public ServiceDto update(Long serviceId, UpdateServiceRequest request) {
-        ServiceEntity entity = serviceRepository.findById(serviceId)
-            .orElseThrow(() -> new NotFoundException("Service not found: " + serviceId));
-        if (!Objects.equals(entity.getOwner().getId(), request.getRequesterId())) {
-            throw new BadRequestException("Only owner can update the service");
-        }
-
-        if (request.getCategoryId() != null && !request.getCategoryId().equals(entity.getCategory().getId())) {
-            CategoryEntity category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new NotFoundException("Category not found: " + request.getCategoryId()));
-            entity.setCategory(category);
-        }
-
-        if (request.getTitle() != null) {
-            entity.setTitle(request.getTitle());
-        }
-        if (request.getDescription() != null) {
-            entity.setDescription(request.getDescription());
-        }
-        if (request.getPrice() != null) {
-            entity.setPrice(request.getPrice());
-        }
-        if (request.getBarter() != null) {
-            entity.setBarter(request.getBarter());
-        }
-        if (request.getPlace() != null) {
-            entity.setPlace(request.getPlace());
-        }
-
-        return ServiceMapper.toDto(serviceRepository.save(entity));
+        ServiceWriteRepository.UpdatedService updated = serviceWriteRepository
+            .updateFields(serviceId, request.getRequesterId(), request)
+            .orElseThrow(() -> {
+                rejectUnlessOwner(serviceId, request.getRequesterId(), "Only owner can update the service");
+                return new NotFoundException("Category not found: " + request.getCategoryId());
+            });
+        ServiceDto service = updated.service();
+        searchCache.invalidate(previousSlot(updated), ServiceSlot.of(service));
+        detailCache.invalidate(service.getId());
+        events.publishEvent(new ServiceUpdated(service.getId(), previousSlot(updated), ServiceSlot.of(service)));
+        return service;
     }
 
     @Transactional
     public void archive(Long serviceId, Long requesterId) {
-        ServiceEntity entity = serviceRepository.findById(serviceId)
-            .orElseThrow(() -> new NotFoundException("Service not found: " + serviceId));
-        if (!Objects.equals(entity.getOwner().getId(), requesterId)) {
-            throw new BadRequestException("Only owner can archive the service");
-        }
-        entity.setStatus(ServiceStatus.ARCHIVED);
-        serviceRepository.save(entity);
+        ServiceWriteRepository.UpdatedService updated = serviceWriteRepository
+            .updateStatus(serviceId, requesterId, ServiceStatus.ARCHIVED)
+            .orElseThrow(() -> {
+                rejectUnlessOwner(serviceId, requesterId, "Only owner can archive the service");
+                return new ConflictException("Service was modified concurrently: " + serviceId);
+            });
+        statusChanged(updated);
     }
 
     @Transactional
     public void delete(Long serviceId, Long requesterId) {
-        ServiceEntity entity = serviceRepository.findById(serviceId)
-            .orElseThrow(() -> new NotFoundException("Service not found: " + serviceId));
-        if (!Objects.equals(entity.getOwner().getId(), requesterId)) {
-            throw new BadRequestException("Only owner can delete the service");
-        }
-        serviceRepository.delete(entity);
+        ServiceWriteRepository.DeletedService deleted = serviceWriteRepository.delete(serviceId, requesterId)
+            .orElseThrow(() -> {
+                rejectUnlessOwner(serviceId, requesterId, "Only owner can delete the service");
+                return new ConflictException("Service was modified concurrently: " + serviceId);
+            });
+        ServiceSlot slot = new ServiceSlot(deleted.ownerId(), deleted.categoryId(), deleted.type(), deleted.status());
+        searchCache.invalidate(slot);
+        detailCache.invalidate(serviceId);
+        events.publishEvent(new ServiceDeleted(serviceId, slot));
     }
 
     @Transactional
     public ServiceDto changeStatus(Long serviceId, ServiceStatus status, Long requesterId) {
-        ServiceEntity entity = serviceRepository.findById(serviceId)
-            .orElseThrow(() -> new NotFoundException("Service not found: " + serviceId));
-        if (!Objects.equals(entity.getOwner().getId(), requesterId)) {
-            AppUserEntity requester = appUserRepository.findById(requesterId)
+        Optional<ServiceWriteRepository.UpdatedService> updated =
+            serviceWriteRepository.updateStatus(serviceId, requesterId, status);
+        if (updated.isEmpty()) {
+            if (!serviceRepository.existsById(serviceId)) {
+                throw new NotFoundException("Service not found: " + serviceId);
+            }
+            UserRole role = appUserRepository.findRoleById(requesterId)
                 .orElseThrow(() -> new NotFoundException("User not found: " + requesterId));
-            if (requester.getRole() != UserRole.admin && requester.getRole() != UserRole.moderator) {
+            if (role != UserRole.admin && role != UserRole.moderator) {
                 throw new BadRequestException("Only owner or moderator/admin can change status");
             }
+            updated = serviceWriteRepository.updateStatus(serviceId, null, status);
         }
-        entity.setStatus(status);
-        return ServiceMapper.toDto(serviceRepository.save(entity));
+        return statusChanged(updated.orElseThrow(() -> new NotFoundException("Service not found: " + serviceId)));
     }
 
     @Transactional
-    public java.util.List<ServiceDto> changeUserServicesStatus(Long ownerId,
-                                                               ServiceStatus status,
-                                                               Long requesterId) {
-        AppUserEntity requester = appUserRepository.findById(requesterId)
+    public List<ServiceDto> changeUserServicesStatus(Long ownerId, ServiceStatus status, Long requesterId) {
+        BulkStatusResultDto result = changeStatus(ServiceScope.ofOwner(ownerId), status, requesterId, false);
+        if (result.getUpdated() == 0 && !appUserRepository.existsById(ownerId)) {
+            throw new NotFoundException("User not found: " + ownerId);
+        }
+        return result.getServices();
+    }
+
+    /**
+     * Moderator bulk status change as one {@code UPDATE ... RETURNING}. Services that already have the
+     * status are left untouched and not reported; with {@code countOnly} the changed rows are not
+     * materialized.
+     */
+    @Transactional
+    public BulkStatusResultDto changeStatus(ServiceScope scope, ServiceStatus status, Long requesterId,
+                                            boolean countOnly) {
+        UserRole role = appUserRepository.findRoleById(requesterId)
             .orElseThrow(() -> new NotFoundException("User not found: " + requesterId));
-        if (requester.getRole() != UserRole.admin && requester.getRole() != UserRole.moderator) {
-            throw new BadRequestException("Only moderator/admin can change user services status");
+        if (role != UserRole.admin && role != UserRole.moderator) {
+            throw new BadRequestException("Only moderator/admin can change services status in bulk");
+        }
+        Set<ServiceSlot> slots = new HashSet<>();
+        List<Long> ids;
+        List<ServiceDto> services = null;
+        if (countOnly) {
+            List<ServiceWriteRepository.StatusChange> changes = serviceWriteRepository.updateStatusKeys(scope, status);
+            ids = changes.stream().map(ServiceWriteRepository.StatusChange::id).toList();
+            for (ServiceWriteRepository.StatusChange change : changes) {
+                slots.add(new ServiceSlot(change.ownerId(), change.categoryId(), change.type(), change.previousStatus()));
+                slots.add(new ServiceSlot(change.ownerId(), change.categoryId(), change.type(), status));
+            }
+        } else {
+            List<ServiceWriteRepository.UpdatedService> updated = serviceWriteRepository.updateStatus(scope, status);
+            services = updated.stream().map(ServiceWriteRepository.UpdatedService::service).toList();
+            ids = services.stream().map(ServiceDto::getId).toList();
+            for (ServiceWriteRepository.UpdatedService change : updated) {
+                ServiceDto service = change.service();
+                slots.add(new ServiceSlot(service.getOwnerId(), change.previousCategoryId(), service.getType(),
+                    change.previousStatus()));
+                slots.add(ServiceSlot.of(service));
+            }
         }
-        appUserRepository.findById(ownerId)
-            .orElseThrow(() -> new NotFoundException("User not found: " + ownerId));
-        java.util.List<ServiceEntity> services = serviceRepository.findByOwner_Id(ownerId);
-        for (ServiceEntity service : services) {
-            service.setStatus(status);
+        if (!ids.isEmpty()) {
+            searchCache.invalidate(slots);
+            detailCache.invalidate(ids);
+            events.publishEvent(new ServiceStatusChanged(ids, status, List.copyOf(slots)));
         }
-        return serviceRepository.saveAll(services).stream()
-            .map(ServiceMapper::toDto)
-            .toList();
+        return new BulkStatusResultDto(ids.size(), services);
     }
 
-    @Transactional(readOnly = true)
+    // Hot reads open their transaction only when they miss the cache and lead their single-flight
+    // group, so callers waiting on an in-flight lookup do not hold connections.
     public ServiceDto getById(Long serviceId) {
-        return serviceRepository.findById(serviceId)
-            .map(ServiceMapper::toDto)
-            .orElseThrow(() -> new NotFoundException("Service not found: " + serviceId));
+        return detailCache.get(serviceId, id -> readOnlyTransaction.execute(status -> {
+            // Read before the row so a concurrent write can only make the tag older than the body.
+            Optional<Revision> revision = serviceRepository.findRevision(id);
+            ServiceDto service = serviceRepository.findById(id)
+                .map(ServiceMapper::toDto)
+                .orElseThrow(() -> new NotFoundException("Service not found: " + id));
+            service.setRevision(revision.orElse(null));
+            return service;
+        }));
+    }
+
+    public Optional<Revision> findRevision(Long serviceId) {
+        return serviceRepository.findRevision(serviceId);
     }
 
-    @Transactional(readOnly = true)
     public Page<ServiceDto> search(ServiceFilter filter, Pageable pageable) {
+        return searchCache.get(filter, pageable, "page",
+            () -> readOnlyTransaction.execute(status -> searchUncached(filter, pageable)));
+    }
+
+    private Page<ServiceDto> searchUncached(ServiceFilter filter, Pageable pageable) {
+        Optional<Page<ServiceDto>> fromIndex = searchIndex.search(filter, pageable);
+        if (fromIndex.isPresent()) {
+            return fromIndex.get();
+        }
+        Specification<ServiceEntity> spec = buildSpecification(filter);
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        List<ServiceDto> content = findDtos(filter, spec, pageable.getSort(), offset, limit);
+        return PageableExecutionUtils.getPage(content, pageable, () -> serviceRepository.count(spec));
+    }
+
+    public PageDto<ServiceDto> search(ServiceFilter filter, Pageable pageable, CountMode countMode) {
+        return searchCache.get(filter, pageable, "count:" + countMode,
+            () -> readOnlyTransaction.execute(status -> searchUncached(filter, pageable, countMode)));
+    }
+
+    private PageDto<ServiceDto> searchUncached(ServiceFilter filter, Pageable pageable, CountMode countMode) {
+        Optional<Page<ServiceDto>> fromIndex = searchIndex.search(filter, pageable);
+        if (fromIndex.isPresent()) {
+            Page<ServiceDto> page = fromIndex.get();
+            Long total = countMode == CountMode.NONE ? null : page.getTotalElements();
+            return new PageDto<>(page.getContent(), page.getNumber(), page.getSize(), page.hasNext(), total, false);
+        }
+        Specification<ServiceEntity> spec = buildSpecification(filter);
+        return pageCounter.toPage(
+            sliceOfDtos(filter, spec, pageable),
+            countMode,
+            () -> serviceRepository.count(spec),
+            () -> rowEstimateRepository.estimateServices(filter)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public ServiceFacetsDto facets(ServiceFilter filter) {
+        List<BigDecimal> priceBounds = facetSettings.getPriceBounds().stream().sorted().distinct().toList();
+        return searchIndex.facets(filter, priceBounds)
+            .orElseGet(() -> serviceFacetRepository.countFacets(filter, priceBounds));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<ServiceDto> searchByCursor(ServiceFilter filter, ServiceSort sort, String cursor, int size) {
+        if (size < 1) {
+            throw new BadRequestException("Page size must be positive");
+        }
+        if (filter != null && filter.isRanked()) {
+            throw new BadRequestException("Ranked search is not supported with cursor pagination");
+        }
+        ServiceSort order = sort != null ? sort : ServiceSort.NEWEST;
         Specification<ServiceEntity> spec = buildSpecification(filter);
-        return serviceRepository.findAll(spec, pageable)
-            .map(ServiceMapper::toDto);
+        if (cursor != null && !cursor.isBlank()) {
+            ServiceCursor position = ServiceCursor.decode(cursor);
+            if (position.getSort() != order) {
+                throw new BadRequestException("Cursor was issued for another sort order");
+            }
+            spec = spec.and(keysetAfter(position));
+        }
+
+        List<ServiceDto> rows = findDtos(filter, spec, keysetSort(order), 0, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<ServiceDto> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ServiceDto last = page.get(page.size() - 1);
+            BigDecimal price = order == ServiceSort.NEWEST ? null : last.getPrice();
+            nextCursor = new ServiceCursor(order, last.getCreatedAt(), last.getId(), price).encode();
+        }
+        return new CursorPageDto<>(List.copyOf(page), size, hasNext, nextCursor);
+    }
+
+    private ServiceDto statusChanged(ServiceWriteRepository.UpdatedService updated) {
+        ServiceDto service = updated.service();
+        List<ServiceSlot> slots = List.of(previousSlot(updated), ServiceSlot.of(service));
+        searchCache.invalidate(slots);
+        detailCache.invalidate(service.getId());
+        events.publishEvent(new ServiceStatusChanged(List.of(service.getId()), service.getStatus(), slots));
+        return service;
+    }
+
+    private static ServiceSlot previousSlot(ServiceWriteRepository.UpdatedService updated) {
+        ServiceDto service = updated.service();
+        return new ServiceSlot(service.getOwnerId(), updated.previousCategoryId(), service.getType(),
+            updated.previousStatus());
+    }
+
+    // Works out why a conditional write matched no row. It returns only when the requester owns the
+    // service now, i.e. the row changed between the write and this check.
+    private void rejectUnlessOwner(Long serviceId, Long requesterId, String notOwnerMessage) {
+        if (!serviceRepository.existsById(serviceId)) {
+            throw new NotFoundException("Service not found: " + serviceId);
+        }
+        if (!serviceRepository.existsByIdAndOwner_Id(serviceId, requesterId)) {
+            throw new BadRequestException(notOwnerMessage);
+        }
+    }
+
+    private static RuntimeException missingReference(DataIntegrityViolationException e, CreateServiceRequest request) {
+        String constraint = null;
+        for (Throwable cause = e; cause != null && constraint == null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                constraint = violation.getConstraintName();
+            }
+        }
+        if (OWNER_FK.equals(constraint)) {
+            return new NotFoundException("Owner not found: " + request.getOwnerId());
+        }
+        if (CATEGORY_FK.equals(constraint)) {
+            return new NotFoundException("Category not found: " + request.getCategoryId());
+        }
+        return e;
+    }
+
+    private Slice<ServiceDto> sliceOfDtos(ServiceFilter filter, Specification<ServiceEntity> spec, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(findDtos(filter, spec, pageable.getSort(), 0, Integer.MAX_VALUE));
+        }
+        List<ServiceDto> rows = findDtos(
+            filter, spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    private List<ServiceDto> findDtos(ServiceFilter filter,
+                                      Specification<ServiceEntity> spec,
+                                      Sort sort,
+                                      long offset,
+                                      int limit) {
+        if (filter == null) {
+            return serviceRepository.findDtos(spec, sort, offset, limit);
+        }
+        if (filter.isRankBySimilarity() && filter.isRankByText()) {
+            throw new BadRequestException("Choose either similarity or text rank ordering");
+        }
+        if (filter.isRankBySimilarity() && !filter.hasTitleFuzzy()) {
+            throw new BadRequestException("Similarity ranking requires titleFuzzy");
+        }
+        if ((filter.isRankByText() || filter.isHighlight()) && !filter.hasFullText()) {
+            throw new BadRequestException("Text ranking and highlighting require text");
+        }
+
+        List<ServiceDto> rows;
+        if (filter.isRankBySimilarity()) {
+            rows = serviceRepository.findDtosBySimilarity(spec, filter.getTitleFuzzy(), offset, limit);
+        } else if (filter.isRankByText()) {
+            rows = serviceRepository.findDtosByTextRank(spec, filter.getFullText(), offset, limit);
+        } else {
+            rows = serviceRepository.findDtos(spec, sort, offset, limit);
+        }
+        if (filter.isHighlight()) {
+            Map<Long, String> snippets = serviceRepository.findSnippets(
+                rows.stream().map(ServiceDto::getId).toList(), filter.getFullText());
+            rows.forEach(row -> row.setSnippet(snippets.get(row.getId())));
+        }
+        return rows;
+    }
+
+    private Sort keysetSort(ServiceSort sort) {
+        Sort newest = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        return switch (sort) {
+            case NEWEST -> newest;
+            case PRICE_ASC -> Sort.by(Sort.Order.asc("price")).and(newest);
+            case PRICE_DESC -> Sort.by(Sort.Order.desc("price")).and(newest);
+        };
+    }
+
+    private Specification<ServiceEntity> keysetAfter(ServiceCursor cursor) {
+        return (root, query, cb) -> {
+            Path<Instant> createdAt = root.get("createdAt");
+            Path<Long> id = root.get("id");
+            // The non-strict bound duplicates the OR below, but gives the planner an index range to seek to.
+            Predicate olderRows = cb.and(
+                cb.lessThanOrEqualTo(createdAt, cursor.getCreatedAt()),
+                cb.or(
+                    cb.lessThan(createdAt, cursor.getCreatedAt()),
+                    cb.and(cb.equal(createdAt, cursor.getCreatedAt()), cb.lessThan(id, cursor.getId()))
+                )
+            );
+            if (cursor.getSort() == ServiceSort.NEWEST) {
+                return olderRows;
+            }
+            Path<BigDecimal> price = root.get("price");
+            boolean ascending = cursor.getSort() == ServiceSort.PRICE_ASC;
+            return cb.and(
+                ascending
+                    ? cb.greaterThanOrEqualTo(price, cursor.getPrice())
+                    : cb.lessThanOrEqualTo(price, cursor.getPrice()),
+                cb.or(
+                    ascending ? cb.greaterThan(price, cursor.getPrice()) : cb.lessThan(price, cursor.getPrice()),
+                    cb.and(cb.equal(price, cursor.getPrice()), olderRows)
+                )
+            );
+        };
     }
 
     private Specification<ServiceEntity> buildSpecification(ServiceFilter filter) {
@@ -179,8 +484,18 @@ public class ServiceCatalogService {
             spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), filter.getStatus()));
         }
         if (filter.getTitleLike() != null && !filter.getTitleLike().isBlank()) {
-            String pattern = "%" + filter.getTitleLike().toLowerCase() + "%";
-            spec = spec.and((root, query, cb) -> cb.like(cb.lower(root.get("title")), pattern));
+            String pattern = "%" + filter.getTitleLike() + "%";
+            spec = spec.and((root, query, cb) -> ((HibernateCriteriaBuilder) cb).ilike(root.get("title"), pattern));
+        }
+        if (filter.hasTitleFuzzy()) {
+            spec = spec.and((root, query, cb) -> cb.isTrue(cb.function(
+                TrigramFunctionContributor.TRGM_MATCH, Boolean.class,
+                root.get("title"), ((HibernateCriteriaBuilder) cb).value(filter.getTitleFuzzy()))));
+        }
+        if (filter.hasFullText()) {
+            spec = spec.and((root, query, cb) -> cb.isTrue(cb.function(
+                FullTextFunctionContributor.FTS_MATCH, Boolean.class,
+                root.get("searchVector"), ((HibernateCriteriaBuilder) cb).value(filter.getFullText()))));
         }
         if (filter.getMinPrice() != null) {
             spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), filter.getMinPrice()));
@@ -0,0 +1,169 @@
+package org.moysha.managementservice.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.moysha.managementservice.api.dto.IngestResultDto;
+import org.moysha.managementservice.api.dto.RowErrorDto;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.api.request.CreateServiceRequest;
+import org.moysha.managementservice.config.IngestSettings;
+import org.moysha.managementservice.exception.BadRequestException;
+import org.moysha.managementservice.repository.ServiceIngestRepository;
+import org.moysha.managementservice.repository.ServiceIngestRepository.PublishedRow;
+import org.moysha.managementservice.repository.ServiceIngestRepository.StagedService;
+import org.moysha.managementservice.service.ingest.IngestRow;
+import org.moysha.managementservice.service.ingest.ServiceCsvReader;
+import org.moysha.managementservice.service.event.ServicesCreated;
+import org.moysha.managementservice.service.search.SearchResultCache;
+import org.moysha.managementservice.service.search.ServiceSlot;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Creates many services from one upload. Rows are checked in batches, with owners and categories
+ * resolved in one query per batch, and copied into a staging table; the valid ones are then inserted
+ * together. Invalid rows are reported and skipped, the rest of the upload still goes through.
+ */
+@Service
+public class ServiceIngestService {
+
+    private final ServiceIngestRepository ingestRepository;
+    private final Validator validator;
+    private final IngestSettings settings;
+    private final SearchResultCache searchCache;
+    private final ApplicationEventPublisher events;
+
+    public ServiceIngestService(ServiceIngestRepository ingestRepository,
+                                Validator validator,
+                                IngestSettings settings,
+                                SearchResultCache searchCache,
+                                ApplicationEventPublisher events) {
+        this.ingestRepository = ingestRepository;
+        this.validator = validator;
+        this.settings = settings;
+        this.searchCache = searchCache;
+        this.events = events;
+    }
+
+    @Transactional
+    public IngestResultDto ingest(List<CreateServiceRequest> requests) {
+        List<IngestRow> rows = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            CreateServiceRequest request = requests.get(i);
+            rows.add(request == null ? IngestRow.failed(i + 1, "Row is empty") : IngestRow.parsed(i + 1, request));
+        }
+        return ingest(rows.iterator());
+    }
+
+    @Transactional
+    public IngestResultDto ingestCsv(Reader csv) {
+        return ingest(new ServiceCsvReader(csv));
+    }
+
+    private IngestResultDto ingest(Iterator<IngestRow> rows) {
+        ingestRepository.createStaging();
+        List<RowErrorDto> errors = new ArrayList<>();
+        Set<OwnerTitle> titles = new HashSet<>();
+        List<IngestRow> batch = new ArrayList<>();
+        int received = 0;
+        while (rows.hasNext()) {
+            if (++received > settings.getMaxRows()) {
+                throw new BadRequestException("Upload exceeds " + settings.getMaxRows() + " rows");
+            }
+            batch.add(rows.next());
+            if (batch.size() == settings.getBatchSize()) {
+                stage(batch, titles, errors);
+                batch.clear();
+            }
+        }
+        stage(batch, titles, errors);
+
+        List<ServiceDto> created = new ArrayList<>();
+        for (PublishedRow row : ingestRepository.publish()) {
+            if (row.service() == null) {
+                errors.add(new RowErrorDto(row.row(), "Owner already has a service with this title"));
+            } else {
+                created.add(row.service());
+            }
+        }
+        indexed(created);
+        errors.sort(Comparator.comparingInt(RowErrorDto::getRow));
+        return new IngestResultDto(received, created.size(), errors);
+    }
+
+    private void stage(List<IngestRow> batch, Set<OwnerTitle> titles, List<RowErrorDto> errors) {
+        List<IngestRow> valid = new ArrayList<>(batch.size());
+        for (IngestRow row : batch) {
+            String error = row.error() != null ? row.error() : violations(row.request());
+            if (error != null) {
+                errors.add(new RowErrorDto(row.row(), error));
+            } else {
+                valid.add(row);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+        Map<Long, Boolean> owners = ingestRepository.findOwners(
+            valid.stream().map(row -> row.request().getOwnerId()).collect(Collectors.toSet()));
+        Set<Long> categories = ingestRepository.findCategories(
+            valid.stream().map(row -> row.request().getCategoryId()).collect(Collectors.toSet()));
+
+        List<StagedService> staged = new ArrayList<>(valid.size());
+        for (IngestRow row : valid) {
+            CreateServiceRequest request = row.request();
+            Boolean banned = owners.get(request.getOwnerId());
+            String error = null;
+            if (banned == null) {
+                error = "User not found: " + request.getOwnerId();
+            } else if (banned) {
+                error = "User is banned: " + request.getOwnerId();
+            } else if (!categories.contains(request.getCategoryId())) {
+                error = "Category not found: " + request.getCategoryId();
+            } else if (!titles.add(new OwnerTitle(request.getOwnerId(), request.getTitle()))) {
+                error = "Title repeats an earlier row for the same owner";
+            }
+            if (error != null) {
+                errors.add(new RowErrorDto(row.row(), error));
+            } else {
+                staged.add(new StagedService(row.row(), request));
+            }
+        }
+        ingestRepository.stage(staged);
+    }
+
+    private String violations(CreateServiceRequest request) {
+        Set<ConstraintViolation<CreateServiceRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    // One event for the whole upload: the search index and the other replicas catch up from it, as
+    // they do for single creates.
+    private void indexed(List<ServiceDto> created) {
+        if (created.isEmpty()) {
+            return;
+        }
+        List<ServiceSlot> slots = created.stream().map(ServiceSlot::of).distinct().toList();
+        searchCache.invalidate(slots);
+        events.publishEvent(new ServicesCreated(created.stream().map(ServiceDto::getId).toList(), slots));
+    }
+
+    private record OwnerTitle(Long ownerId, String title) {
+    }
+}
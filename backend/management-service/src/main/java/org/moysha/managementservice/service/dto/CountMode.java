@@ -0,0 +1,7 @@
+package org.moysha.managementservice.service.dto;
+
+public enum CountMode {
+    EXACT,
+    NONE,
+    ESTIMATED
+}
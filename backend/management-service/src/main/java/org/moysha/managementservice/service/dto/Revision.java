@@ -0,0 +1,14 @@
+package org.moysha.managementservice.service.dto;
+
+import java.time.Instant;
+
+/**
+ * Validator of a resource representation: an opaque tag that changes with every write and, where
+ * deletions cannot hide behind it, the moment of the last change.
+ */
+public record Revision(String tag, Instant modifiedAt) {
+
+    public Revision(String tag) {
+        this(tag, null);
+    }
+}
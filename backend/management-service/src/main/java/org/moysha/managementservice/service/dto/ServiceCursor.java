@@ -0,0 +1,45 @@
+package org.moysha.managementservice.service.dto;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.moysha.managementservice.exception.BadRequestException;
+
+@Getter
+@AllArgsConstructor
+public class ServiceCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final ServiceSort sort;
+    private final Instant createdAt;
+    private final Long id;
+    private final BigDecimal price;
+
+    public String encode() {
+        String raw = sort.name() + SEPARATOR + createdAt + SEPARATOR + id
+            + SEPARATOR + (price == null ? "" : price.toPlainString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ServiceCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Unexpected cursor layout");
+            }
+            ServiceSort sort = ServiceSort.valueOf(parts[0]);
+            BigDecimal price = parts[3].isEmpty() ? null : new BigDecimal(parts[3]);
+            if (sort != ServiceSort.NEWEST && price == null) {
+                throw new IllegalArgumentException("Price is missing");
+            }
+            return new ServiceCursor(sort, Instant.parse(parts[1]), Long.valueOf(parts[2]), price);
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -21,4 +21,35 @@ public class ServiceFilter {
     private final Boolean barterOnly;
     private final Instant createdAfter;
     private final Instant createdBefore;
+    private final String titleFuzzy;
+    private final boolean rankBySimilarity;
+    private final String fullText;
+    private final boolean rankByText;
+    private final boolean highlight;
+
+    public ServiceFilter(Long ownerId,
+                         Long categoryId,
+                         ServiceType type,
+                         ServiceStatus status,
+                         String titleLike,
+                         BigDecimal minPrice,
+                         BigDecimal maxPrice,
+                         Boolean barterOnly,
+                         Instant createdAfter,
+                         Instant createdBefore) {
+        this(ownerId, categoryId, type, status, titleLike, minPrice, maxPrice, barterOnly,
+            createdAfter, createdBefore, null, false, null, false, false);
+    }
+
+    public boolean hasTitleFuzzy() {
+        return titleFuzzy != null && !titleFuzzy.isBlank();
+    }
+
+    public boolean hasFullText() {
+        return fullText != null && !fullText.isBlank();
+    }
+
+    public boolean isRanked() {
+        return rankBySimilarity || rankByText;
+    }
 }
@@ -0,0 +1,22 @@
+package org.moysha.managementservice.service.dto;
+
+import java.util.List;
+
+/**
+ * The set of services a bulk operation applies to: all of one owner's, all in one category, or an
+ * explicit list of ids.
+ */
+public record ServiceScope(Long ownerId, Long categoryId, List<Long> ids) {
+
+    public static ServiceScope ofOwner(Long ownerId) {
+        return new ServiceScope(ownerId, null, null);
+    }
+
+    public static ServiceScope ofCategory(Long categoryId) {
+        return new ServiceScope(null, categoryId, null);
+    }
+
+    public static ServiceScope ofIds(List<Long> ids) {
+        return new ServiceScope(null, null, List.copyOf(ids));
+    }
+}
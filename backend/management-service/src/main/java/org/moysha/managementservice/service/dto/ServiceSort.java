@@ -0,0 +1,7 @@
+package org.moysha.managementservice.service.dto;
+
+public enum ServiceSort {
+    NEWEST,
+    PRICE_ASC,
+    PRICE_DESC
+}
@@ -0,0 +1,23 @@
+package org.moysha.managementservice.service.dto;
+
+import java.util.Collection;
+import java.util.function.ToLongFunction;
+
+/**
+ * Fingerprint of a set of versioned rows. Any insert, update or delete changes at least one of the
+ * counters, so it can validate a list without reading the rows themselves.
+ */
+public record VersionSummary(long count, long idSum, long versionSum) {
+
+    public static <T> VersionSummary of(Collection<T> rows, ToLongFunction<T> id, ToLongFunction<T> version) {
+        return new VersionSummary(
+            rows.size(),
+            rows.stream().mapToLong(id).sum(),
+            rows.stream().mapToLong(version).sum()
+        );
+    }
+
+    public Revision toRevision() {
+        return new Revision(count + "." + idSum + "." + versionSum);
+    }
+}
@@ -0,0 +1,71 @@
+package org.moysha.managementservice.service.event;
+
+import java.util.List;
+import org.moysha.managementservice.service.invalidation.EntityKind;
+import org.moysha.managementservice.service.invalidation.InvalidationBus;
+import org.moysha.managementservice.service.search.SearchResultCache;
+import org.moysha.managementservice.service.search.ServiceSearchIndex;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Brings this replica's search index up to date with committed catalog changes and announces them
+ * to the other replicas. The publishing service has already dropped its own cached copies when its
+ * transaction committed; search results are dropped again once the index changes, since a search
+ * served from the index in between saw the old row. Each handler runs after the publishing
+ * transaction commits, in a transaction of its own, and its publication stays incomplete in the
+ * event store until it succeeds. Created and edited services are re-read rather than taken from the
+ * event, so handlers finishing out of order still leave the index with the latest row.
+ */
+@Component
+public class CatalogEventListener {
+
+    private final ServiceSearchIndex searchIndex;
+    private final SearchResultCache searchCache;
+    private final InvalidationBus invalidationBus;
+
+    public CatalogEventListener(ServiceSearchIndex searchIndex,
+                                SearchResultCache searchCache,
+                                InvalidationBus invalidationBus) {
+        this.searchIndex = searchIndex;
+        this.searchCache = searchCache;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @ApplicationModuleListener
+    void on(ServiceCreated event) {
+        searchIndex.reload(event.serviceId());
+        searchCache.invalidate(event.slot());
+        invalidationBus.publish(EntityKind.SERVICE, List.of(event.serviceId()), List.of(event.slot()));
+    }
+
+    @ApplicationModuleListener
+    void on(ServicesCreated event) {
+        searchIndex.reload(event.serviceIds());
+        searchCache.invalidate(event.slots());
+        invalidationBus.publish(EntityKind.SERVICE, event.serviceIds(), event.slots());
+    }
+
+    @ApplicationModuleListener
+    void on(ServiceUpdated event) {
+        searchIndex.reload(event.serviceId());
+        searchCache.invalidate(event.previous(), event.current());
+        invalidationBus.publish(EntityKind.SERVICE, List.of(event.serviceId()),
+            List.of(event.previous(), event.current()));
+    }
+
+    @ApplicationModuleListener
+    void on(ServiceStatusChanged event) {
+        List<Long> ids = event.serviceIds();
+        searchIndex.changeStatus(ids, event.status());
+        searchCache.invalidate(event.slots());
+        invalidationBus.publish(EntityKind.SERVICE, ids, event.slots());
+    }
+
+    @ApplicationModuleListener
+    void on(ServiceDeleted event) {
+        searchIndex.remove(event.serviceId());
+        searchCache.invalidate(event.slot());
+        invalidationBus.publish(EntityKind.SERVICE, List.of(event.serviceId()), List.of(event.slot()));
+    }
+}
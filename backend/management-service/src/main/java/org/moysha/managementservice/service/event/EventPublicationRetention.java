@@ -0,0 +1,51 @@
+package org.moysha.managementservice.service.event;
+
+import java.time.Instant;
+import org.moysha.managementservice.config.DomainEventSettings;
+import org.moysha.managementservice.repository.EventPublicationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes completed event publications once they are older than the retention, so the event store
+ * holds little more than the publications still in flight. Each batch commits on its own, keeping
+ * locks short and the deleted rows reclaimable by autovacuum while the purge goes on.
+ */
+@Component
+public class EventPublicationRetention {
+
+    private static final Logger log = LoggerFactory.getLogger(EventPublicationRetention.class);
+
+    private final EventPublicationRepository repository;
+    private final DomainEventSettings settings;
+
+    public EventPublicationRetention(EventPublicationRepository repository, DomainEventSettings settings) {
+        this.repository = repository;
+        this.settings = settings;
+    }
+
+    @Scheduled(initialDelayString = "${events.purge-interval:5m}", fixedDelayString = "${events.purge-interval:5m}")
+    public void purgeScheduled() {
+        purge();
+    }
+
+    /**
+     * Returns the number of publications deleted.
+     */
+    public long purge() {
+        Instant before = Instant.now().minus(settings.getRetention());
+        int batchSize = settings.getPurgeBatchSize();
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = repository.deleteCompletedBefore(before, batchSize);
+            purged += deleted;
+        } while (deleted == batchSize);
+        if (purged > 0) {
+            log.info("Purged {} completed event publications older than {}", purged, before);
+        }
+        return purged;
+    }
+}
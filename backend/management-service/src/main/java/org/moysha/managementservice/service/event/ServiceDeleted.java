@@ -0,0 +1,6 @@
+package org.moysha.managementservice.service.event;
+
+import org.moysha.managementservice.service.search.ServiceSlot;
+
+public record ServiceDeleted(Long serviceId, ServiceSlot slot) {
+}
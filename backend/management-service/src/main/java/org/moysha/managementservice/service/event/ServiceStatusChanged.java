@@ -0,0 +1,12 @@
+package org.moysha.managementservice.service.event;
+
+import java.util.List;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.service.search.ServiceSlot;
+
+/**
+ * One or more services moved to {@code status}. The slots cover each service before and after the
+ * change, deduplicated for bulk changes.
+ */
+public record ServiceStatusChanged(List<Long> serviceIds, ServiceStatus status, List<ServiceSlot> slots) {
+}
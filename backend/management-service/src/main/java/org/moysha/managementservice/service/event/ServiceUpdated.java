@@ -0,0 +1,9 @@
+package org.moysha.managementservice.service.event;
+
+import org.moysha.managementservice.service.search.ServiceSlot;
+
+/**
+ * Fields of a service were edited; {@code previous} is where it could be found in searches before.
+ */
+public record ServiceUpdated(Long serviceId, ServiceSlot previous, ServiceSlot current) {
+}
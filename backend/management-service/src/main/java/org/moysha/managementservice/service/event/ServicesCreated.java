@@ -0,0 +1,10 @@
+package org.moysha.managementservice.service.event;
+
+import java.util.List;
+import org.moysha.managementservice.service.search.ServiceSlot;
+
+/**
+ * Services inserted together by one bulk upload. The slots are deduplicated across the services.
+ */
+public record ServicesCreated(List<Long> serviceIds, List<ServiceSlot> slots) {
+}
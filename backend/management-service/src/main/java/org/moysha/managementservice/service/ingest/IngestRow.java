@@ -0,0 +1,17 @@
+package org.moysha.managementservice.service.ingest;
+
+import org.moysha.managementservice.api.request.CreateServiceRequest;
+
+/**
+ * One row of a bulk upload: either a parsed request or the reason it could not be parsed.
+ */
+public record IngestRow(int row, CreateServiceRequest request, String error) {
+
+    public static IngestRow parsed(int row, CreateServiceRequest request) {
+        return new IngestRow(row, request, null);
+    }
+
+    public static IngestRow failed(int row, String error) {
+        return new IngestRow(row, null, error);
+    }
+}
@@ -0,0 +1,235 @@
+package org.moysha.managementservice.service.ingest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.moysha.managementservice.api.request.CreateServiceRequest;
+import org.moysha.managementservice.domain.service.ServiceType;
+import org.moysha.managementservice.exception.BadRequestException;
+
+/**
+ * Streams {@link CreateServiceRequest} rows out of RFC 4180 CSV. The header names the columns after
+ * the request fields in any order; {@code ownerId}, {@code categoryId}, {@code title},
+ * {@code description}, {@code type} and {@code price} are required, {@code barter} and {@code place}
+ * optional. An empty field is null. A row whose values cannot be converted comes back as a failed
+ * {@link IngestRow} instead of stopping the upload. Rows are numbered by the file line they start on,
+ * so a reported error can be found in an editor even when quoted fields span lines.
+ */
+public class ServiceCsvReader implements Iterator<IngestRow> {
+
+    private static final List<String> REQUIRED = List.of("ownerId", "categoryId", "title", "description", "type",
+        "price");
+    private static final List<String> OPTIONAL = List.of("barter", "place");
+
+    private final Reader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private List<String> next;
+    private int nextLine;
+    private int line = 1;
+    private int pending = -2;
+
+    public ServiceCsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new BadRequestException("CSV header is missing");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).strip();
+            if (!REQUIRED.contains(name) && !OPTIONAL.contains(name)) {
+                throw new BadRequestException("Unknown CSV column: " + name);
+            }
+            columns.put(name, i);
+        }
+        for (String name : REQUIRED) {
+            if (!columns.containsKey(name)) {
+                throw new BadRequestException("CSV column is missing: " + name);
+            }
+        }
+        next = readRecord();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    @Override
+    public IngestRow next() {
+        if (next == null) {
+            throw new NoSuchElementException();
+        }
+        List<String> fields = next;
+        int row = nextLine;
+        next = readRecord();
+        if (fields.size() != columns.size()) {
+            return IngestRow.failed(row, "Expected " + columns.size() + " fields but got " + fields.size());
+        }
+        try {
+            return IngestRow.parsed(row, new CreateServiceRequest(
+                parseLong(field(fields, "ownerId")),
+                parseLong(field(fields, "categoryId")),
+                field(fields, "title"),
+                field(fields, "description"),
+                parseType(field(fields, "type")),
+                parseDecimal(field(fields, "price")),
+                parseBoolean(field(fields, "barter")),
+                field(fields, "place")
+            ));
+        } catch (IllegalArgumentException e) {
+            return IngestRow.failed(row, e.getMessage());
+        }
+    }
+
+    private String field(List<String> fields, String name) {
+        Integer index = columns.get(name);
+        if (index == null) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return value == null ? null : Long.valueOf(value.strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number: " + value);
+        }
+    }
+
+    private static BigDecimal parseDecimal(String value) {
+        try {
+            return value == null ? null : new BigDecimal(value.strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not a number: " + value);
+        }
+    }
+
+    private static ServiceType parseType(String value) {
+        try {
+            return value == null ? null : ServiceType.valueOf(value.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown service type: " + value);
+        }
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if (value == null) {
+            return false;
+        }
+        return switch (value.strip().toLowerCase(Locale.ROOT)) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw new IllegalArgumentException("Not a boolean: " + value);
+        };
+    }
+
+    // Returns the fields of the next record, or null at the end of the input, and leaves the line it
+    // started on in nextLine. Blank lines are skipped.
+    private List<String> readRecord() {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        int start = line;
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                if (quoted) {
+                    throw new BadRequestException("Unterminated quoted CSV field starting on line " + start);
+                }
+                if (!any) {
+                    return null;
+                }
+                fields.add(field.toString());
+                nextLine = start;
+                return fields;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    field.append((char) c);
+                    countLineBreak(c);
+                }
+                continue;
+            }
+            switch (c) {
+                case '"' -> {
+                    quoted = true;
+                    any = true;
+                }
+                case ',' -> {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    any = true;
+                }
+                case '\r', '\n' -> {
+                    if (c == '\r') {
+                        int following = read();
+                        if (following != '\n') {
+                            unread(following);
+                        }
+                    }
+                    line++;
+                    if (any || field.length() > 0) {
+                        fields.add(field.toString());
+                        nextLine = start;
+                        return fields;
+                    }
+                    start = line;
+                }
+                default -> {
+                    field.append((char) c);
+                    any = true;
+                }
+            }
+        }
+    }
+
+    // Counts a line break inside a quoted field: LF, or a CR that is not followed by LF.
+    private void countLineBreak(int c) {
+        if (c == '\n') {
+            line++;
+        } else if (c == '\r') {
+            int following = read();
+            if (following != '\n') {
+                line++;
+            }
+            unread(following);
+        }
+    }
+
+    private int read() {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        try {
+            return reader.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void unread(int c) {
+        pending = c;
+    }
+}
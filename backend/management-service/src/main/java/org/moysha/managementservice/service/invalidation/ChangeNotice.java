@@ -0,0 +1,117 @@
+package org.moysha.managementservice.service.invalidation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.domain.service.ServiceType;
+import org.moysha.managementservice.service.search.ServiceSlot;
+
+/**
+ * A change announced to every replica, encoded as {@code kind:ids:slots:origin}. Ids are separated
+ * by commas and slots by semicolons; a slot is written as {@code owner.category.type.status}, with an
+ * empty field where it stands for any value. Service notices carry the slots the services were in
+ * before and after the change, so replicas drop only the search pages covering them.
+ */
+public record ChangeNotice(EntityKind kind, List<Long> ids, List<ServiceSlot> slots, String origin) {
+
+    public ChangeNotice {
+        ids = List.copyOf(ids);
+        slots = List.copyOf(slots);
+    }
+
+    public String encode() {
+        return kind.code() + ":" + join(ids, ",", String::valueOf) + ":" + join(slots, ";", ChangeNotice::encode)
+            + ":" + origin;
+    }
+
+    /**
+     * Splits a change into notices whose payloads stay within {@code maxLength}. Ids come before
+     * slots, so a replica reloads every changed service before it drops the pages covering them.
+     */
+    static List<ChangeNotice> split(EntityKind kind, List<Long> ids, List<ServiceSlot> slots, String origin,
+                                    int maxLength) {
+        List<ChangeNotice> notices = new ArrayList<>();
+        int empty = new ChangeNotice(kind, List.of(), List.of(), origin).encode().length();
+        List<Long> idPart = new ArrayList<>();
+        List<ServiceSlot> slotPart = new ArrayList<>();
+        int length = empty;
+        for (Long id : ids) {
+            int added = String.valueOf(id).length() + 1;
+            if (length + added > maxLength && !idPart.isEmpty()) {
+                notices.add(new ChangeNotice(kind, idPart, slotPart, origin));
+                idPart.clear();
+                length = empty;
+            }
+            idPart.add(id);
+            length += added;
+        }
+        for (ServiceSlot slot : slots) {
+            int added = encode(slot).length() + 1;
+            if (length + added > maxLength && (!idPart.isEmpty() || !slotPart.isEmpty())) {
+                notices.add(new ChangeNotice(kind, idPart, slotPart, origin));
+                idPart.clear();
+                slotPart.clear();
+                length = empty;
+            }
+            slotPart.add(slot);
+            length += added;
+        }
+        if (!idPart.isEmpty() || !slotPart.isEmpty()) {
+            notices.add(new ChangeNotice(kind, idPart, slotPart, origin));
+        }
+        return notices;
+    }
+
+    public static Optional<ChangeNotice> decode(String payload) {
+        String[] parts = payload.split(":", -1);
+        if (parts.length != 4) {
+            return Optional.empty();
+        }
+        try {
+            List<Long> ids = parseAll(parts[1], ",", Long::valueOf);
+            List<ServiceSlot> slots = parseAll(parts[2], ";", ChangeNotice::decodeSlot);
+            return Optional.of(new ChangeNotice(EntityKind.ofCode(parts[0]), ids, slots, parts[3]));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String encode(ServiceSlot slot) {
+        return field(slot.ownerId()) + "." + field(slot.categoryId()) + "." + field(slot.type()) + "."
+            + field(slot.status());
+    }
+
+    private static ServiceSlot decodeSlot(String encoded) {
+        String[] fields = encoded.split("\\.", -1);
+        if (fields.length != 4) {
+            throw new IllegalArgumentException("Malformed slot: " + encoded);
+        }
+        return new ServiceSlot(
+            parse(fields[0], Long::valueOf),
+            parse(fields[1], Long::valueOf),
+            parse(fields[2], ServiceType::valueOf),
+            parse(fields[3], ServiceStatus::valueOf));
+    }
+
+    private static String field(Object value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private static <T> T parse(String field, Function<String, T> parser) {
+        return field.isEmpty() ? null : parser.apply(field);
+    }
+
+    private static <T> String join(List<T> values, String separator, Function<T, String> encoder) {
+        return String.join(separator, values.stream().map(encoder).toList());
+    }
+
+    private static <T> List<T> parseAll(String joined, String separator, Function<String, T> parser) {
+        if (joined.isEmpty()) {
+            return List.of();
+        }
+        return Arrays.stream(joined.split(separator, -1)).map(parser).toList();
+    }
+}
@@ -0,0 +1,28 @@
+package org.moysha.managementservice.service.invalidation;
+
+/**
+ * What a {@link ChangeNotice} refers to.
+ */
+public enum EntityKind {
+    SERVICE("s"),
+    CATEGORY("c");
+
+    private final String code;
+
+    EntityKind(String code) {
+        this.code = code;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    static EntityKind ofCode(String code) {
+        for (EntityKind kind : values()) {
+            if (kind.code.equals(code)) {
+                return kind;
+            }
+        }
+        throw new IllegalArgumentException("Unknown entity kind: " + code);
+    }
+}
@@ -0,0 +1,191 @@
+package org.moysha.managementservice.service.invalidation;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.moysha.managementservice.config.InvalidationSettings;
+import org.moysha.managementservice.service.search.ServiceSlot;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tells the other replicas which services and categories changed, so they can drop their
+ * in-process copies. Notices are sent with {@code pg_notify} on the writer's own
+ * connection, and Postgres delivers them only if and when that transaction commits. A listener
+ * thread on a dedicated connection receives notices from other replicas and hands them to the
+ * subscribers of their kind. After a lost connection the subscribers are asked to resynchronize,
+ * since notices sent meanwhile are gone.
+ */
+@Component
+public class InvalidationBus implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBus.class);
+
+    // Postgres rejects NOTIFY payloads of 8000 bytes or more; notices are ASCII, so this is in bytes.
+    static final int MAX_PAYLOAD = 7900;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final InvalidationSettings settings;
+    private final String origin = UUID.randomUUID().toString().substring(0, 8);
+    private final Map<EntityKind, List<Consumer<ChangeNotice>>> subscribers = new ConcurrentHashMap<>();
+    private final List<Runnable> resyncHandlers = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread listener;
+
+    public InvalidationBus(JdbcTemplate jdbcTemplate, DataSource dataSource, InvalidationSettings settings) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.settings = settings;
+    }
+
+    /**
+     * Announces a change. Inside a transaction the notice goes out on commit and is dropped on
+     * rollback.
+     */
+    public void publish(EntityKind kind, Long id) {
+        if (id != null) {
+            publish(kind, List.of(id), List.of());
+        }
+    }
+
+    /**
+     * Announces a change to several entities together with the search slots it touched. A change
+     * too large for one payload is sent as several notices in a single statement.
+     */
+    public void publish(EntityKind kind, Collection<Long> ids, Collection<ServiceSlot> slots) {
+        if (!settings.isEnabled() || (ids.isEmpty() && slots.isEmpty())) {
+            return;
+        }
+        String[] payloads = ChangeNotice.split(kind, List.copyOf(ids), List.copyOf(slots), origin, MAX_PAYLOAD)
+            .stream()
+            .map(ChangeNotice::encode)
+            .toArray(String[]::new);
+        jdbcTemplate.query("SELECT pg_notify(?, payload) FROM unnest(?::text[]) AS payload", rs -> null,
+            settings.getChannel(), payloads);
+    }
+
+    public void subscribe(EntityKind kind, Consumer<ChangeNotice> handler) {
+        subscribers.computeIfAbsent(kind, ignored -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    public void onResync(Runnable handler) {
+        resyncHandlers.add(handler);
+    }
+
+    public String origin() {
+        return origin;
+    }
+
+    public boolean isListening() {
+        return listening;
+    }
+
+    @Override
+    public void start() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        running = true;
+        listener = new Thread(this::listen, "invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN \"" + settings.getChannel().replace("\"", "\"\"") + "\"");
+                }
+                listening = true;
+                if (reconnecting) {
+                    resyncHandlers.forEach(Runnable::run);
+                }
+                try {
+                    receive(connection.unwrap(PGConnection.class));
+                } finally {
+                    unlisten(connection);
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Invalidation listener lost its connection, retrying in {}", settings.getReconnectDelay(), e);
+            } finally {
+                listening = false;
+            }
+            reconnecting = true;
+            try {
+                Thread.sleep(settings.getReconnectDelay().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void receive(PGConnection connection) throws SQLException {
+        int timeout = (int) settings.getPollTimeout().toMillis();
+        while (running) {
+            PGNotification[] notifications = connection.getNotifications(timeout);
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    dispatch(notification.getParameter());
+                }
+            }
+        }
+    }
+
+    // The connection goes back to the pool, which must not keep receiving notices on it.
+    private static void unlisten(Connection connection) {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("UNLISTEN *");
+        } catch (SQLException e) {
+            log.debug("Could not unlisten before releasing the connection", e);
+        }
+    }
+
+    private void dispatch(String payload) {
+        ChangeNotice.decode(payload)
+            .filter(notice -> !origin.equals(notice.origin()))
+            .ifPresentOrElse(
+                notice -> subscribers.getOrDefault(notice.kind(), List.of()).forEach(handler -> {
+                    try {
+                        handler.accept(notice);
+                    } catch (RuntimeException e) {
+                        log.warn("Invalidation handler failed for {}", payload, e);
+                    }
+                }),
+                () -> log.debug("Ignoring invalidation notice {}", payload));
+    }
+}
@@ -0,0 +1,75 @@
+package org.moysha.managementservice.service.invalidation;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.repository.CategoryRepository;
+import org.moysha.managementservice.service.search.CategoryListCache;
+import org.moysha.managementservice.service.search.SearchResultCache;
+import org.moysha.managementservice.service.search.ServiceDetailCache;
+import org.moysha.managementservice.service.search.ServiceSearchIndex;
+import org.moysha.managementservice.service.search.ServiceSlot;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies changes announced by other replicas to this replica's caches. A service notice carries the
+ * search slots the change touched, so only the cached search pages covering them are dropped, once
+ * the index has re-read the services.
+ */
+@Component
+public class ReplicaCacheEvictor {
+
+    private final ServiceDetailCache detailCache;
+    private final SearchResultCache searchCache;
+    private final CategoryListCache categoryCache;
+    private final ServiceSearchIndex searchIndex;
+    private final CategoryRepository categoryRepository;
+    private final Cache secondLevelCache;
+
+    public ReplicaCacheEvictor(InvalidationBus bus,
+                               ServiceDetailCache detailCache,
+                               SearchResultCache searchCache,
+                               CategoryListCache categoryCache,
+                               ServiceSearchIndex searchIndex,
+                               CategoryRepository categoryRepository,
+                               EntityManagerFactory entityManagerFactory) {
+        this.detailCache = detailCache;
+        this.searchCache = searchCache;
+        this.categoryCache = categoryCache;
+        this.searchIndex = searchIndex;
+        this.categoryRepository = categoryRepository;
+        this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        bus.subscribe(EntityKind.SERVICE, this::serviceChanged);
+        bus.subscribe(EntityKind.CATEGORY, this::categoryChanged);
+        bus.onResync(this::evictAll);
+    }
+
+    private void serviceChanged(ChangeNotice notice) {
+        detailCache.invalidate(notice.ids());
+        searchIndex.reload(notice.ids());
+        searchCache.invalidate(notice.slots());
+    }
+
+    private void categoryChanged(ChangeNotice notice) {
+        secondLevelCache.evictQueryRegion(CategoryRepository.QUERY_CACHE_REGION);
+        categoryCache.invalidate();
+        for (Long id : notice.ids()) {
+            secondLevelCache.evictEntityData(CategoryEntity.class, id);
+            detailCache.invalidateCategory(id);
+            searchCache.invalidate(ServiceSlot.ofCategory(id));
+            categoryRepository.findById(id)
+                .ifPresent(category -> searchIndex.renameCategory(category.getId(), category.getName()));
+        }
+    }
+
+    // Notices missed while disconnected never reach the index either, so it is reloaded before the
+    // cached pages it may have served are dropped.
+    private void evictAll() {
+        secondLevelCache.evictAllRegions();
+        categoryCache.invalidateAll();
+        detailCache.invalidateAll();
+        searchIndex.refresh();
+        searchCache.invalidateAll();
+    }
+}
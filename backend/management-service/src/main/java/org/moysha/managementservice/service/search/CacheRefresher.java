@@ -0,0 +1,51 @@
+package org.moysha.managementservice.service.search;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.moysha.managementservice.config.StaleServingSettings;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Small bounded pool that reloads stale cache entries in the background. It is deliberately not an
+ * {@link java.util.concurrent.Executor} bean, so it does not replace the application task executor.
+ */
+@Component
+public class CacheRefresher implements DisposableBean {
+
+    private static final int QUEUE_CAPACITY = 100;
+
+    private final ThreadPoolExecutor executor;
+
+    public CacheRefresher(StaleServingSettings settings) {
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            settings.getRefreshThreads(), settings.getRefreshThreads(), 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            task -> {
+                Thread thread = new Thread(task, "cache-refresh-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * Returns false when the queue is full; the caller keeps serving the stale value meanwhile.
+     */
+    public boolean submit(Runnable refresh) {
+        try {
+            executor.execute(refresh);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
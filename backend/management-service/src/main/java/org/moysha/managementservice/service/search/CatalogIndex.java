@@ -0,0 +1,442 @@
+package org.moysha.managementservice.service.search;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.moysha.managementservice.api.dto.CategoryFacetDto;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.api.dto.ServiceFacetsDto;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.domain.service.ServiceType;
+import org.moysha.managementservice.repository.ServiceFacetRepository;
+import org.moysha.managementservice.service.dto.ServiceFilter;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Compressed bitmaps per owner, category, type, status and barter value, title trigram postings,
+ * bitmaps per price and per creation day for range filters, and price/createdAt columns kept in
+ * sorted order. A filter becomes one bitmap AND (ranges an OR of their buckets); pages are read
+ * off the sorted column that matches the requested order. Not thread safe, {@link ServiceSearchIndex}
+ * guards it with a read/write lock.
+ */
+class CatalogIndex {
+
+    private static final Comparator<Entry<BigDecimal>> PRICE_ORDER =
+        Comparator.<Entry<BigDecimal>, BigDecimal>comparing(Entry::key).thenComparingInt(Entry::id);
+    private static final Comparator<Entry<Instant>> CREATED_ORDER =
+        Comparator.<Entry<Instant>, Instant>comparing(Entry::key).thenComparingInt(Entry::id);
+
+    private final Map<Integer, ServiceDto> documents = new HashMap<>();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<Long, RoaringBitmap> byOwner = new HashMap<>();
+    private final Map<Long, RoaringBitmap> byCategory = new HashMap<>();
+    private final Map<ServiceType, RoaringBitmap> byType = new EnumMap<>(ServiceType.class);
+    private final Map<ServiceStatus, RoaringBitmap> byStatus = new EnumMap<>(ServiceStatus.class);
+    private final RoaringBitmap barter = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> titleTrigrams = new HashMap<>();
+    private final NavigableSet<Entry<BigDecimal>> byPrice = new TreeSet<>(PRICE_ORDER);
+    private final NavigableSet<Entry<Instant>> byCreatedAt = new TreeSet<>(CREATED_ORDER);
+    private final NavigableMap<BigDecimal, RoaringBitmap> priceValues = new TreeMap<>();
+    private final NavigableMap<Instant, RoaringBitmap> createdDays = new TreeMap<>();
+
+    int size() {
+        return documents.size();
+    }
+
+    void put(ServiceDto service) {
+        remove(service.getId());
+        ServiceDto document = copyOf(service);
+        int id = Math.toIntExact(document.getId());
+        documents.put(id, document);
+        all.add(id);
+        byOwner.computeIfAbsent(document.getOwnerId(), key -> new RoaringBitmap()).add(id);
+        byCategory.computeIfAbsent(document.getCategoryId(), key -> new RoaringBitmap()).add(id);
+        byType.computeIfAbsent(document.getType(), key -> new RoaringBitmap()).add(id);
+        byStatus.computeIfAbsent(document.getStatus(), key -> new RoaringBitmap()).add(id);
+        if (document.isBarter()) {
+            barter.add(id);
+        }
+        for (String trigram : trigrams(document.getTitle())) {
+            titleTrigrams.computeIfAbsent(trigram, key -> new RoaringBitmap()).add(id);
+        }
+        byPrice.add(new Entry<>(document.getPrice(), id));
+        byCreatedAt.add(new Entry<>(document.getCreatedAt(), id));
+        priceValues.computeIfAbsent(document.getPrice(), key -> new RoaringBitmap()).add(id);
+        createdDays.computeIfAbsent(day(document.getCreatedAt()), key -> new RoaringBitmap()).add(id);
+    }
+
+    void remove(Long serviceId) {
+        int id = Math.toIntExact(serviceId);
+        ServiceDto document = documents.remove(id);
+        if (document == null) {
+            return;
+        }
+        all.remove(id);
+        unlink(byOwner, document.getOwnerId(), id);
+        unlink(byCategory, document.getCategoryId(), id);
+        unlink(byType, document.getType(), id);
+        unlink(byStatus, document.getStatus(), id);
+        barter.remove(id);
+        for (String trigram : trigrams(document.getTitle())) {
+            unlink(titleTrigrams, trigram, id);
+        }
+        byPrice.remove(new Entry<>(document.getPrice(), id));
+        byCreatedAt.remove(new Entry<>(document.getCreatedAt(), id));
+        unlink(priceValues, document.getPrice(), id);
+        unlink(createdDays, day(document.getCreatedAt()), id);
+    }
+
+    void changeStatus(Long serviceId, ServiceStatus status) {
+        int id = Math.toIntExact(serviceId);
+        ServiceDto document = documents.get(id);
+        if (document == null || document.getStatus() == status) {
+            return;
+        }
+        unlink(byStatus, document.getStatus(), id);
+        document.setStatus(status);
+        byStatus.computeIfAbsent(status, key -> new RoaringBitmap()).add(id);
+    }
+
+    void renameCategory(Long categoryId, String name) {
+        RoaringBitmap ids = byCategory.get(categoryId);
+        if (ids == null) {
+            return;
+        }
+        ids.forEach((int id) -> {
+            ServiceDto document = documents.get(id);
+            document.setCategoryName(name);
+        });
+    }
+
+    /**
+     * Ids of all services matching the filter, in ascending order.
+     */
+    RoaringBitmap find(ServiceFilter filter) {
+        if (filter == null) {
+            return all.clone();
+        }
+        List<RoaringBitmap> required = new ArrayList<>();
+        required.add(all);
+        if (filter.getOwnerId() != null) {
+            required.add(byOwner.getOrDefault(filter.getOwnerId(), new RoaringBitmap()));
+        }
+        if (filter.getCategoryId() != null) {
+            required.add(byCategory.getOrDefault(filter.getCategoryId(), new RoaringBitmap()));
+        }
+        if (filter.getType() != null) {
+            required.add(byType.getOrDefault(filter.getType(), new RoaringBitmap()));
+        }
+        if (filter.getStatus() != null) {
+            required.add(byStatus.getOrDefault(filter.getStatus(), new RoaringBitmap()));
+        }
+        if (Boolean.TRUE.equals(filter.getBarterOnly())) {
+            required.add(barter);
+        }
+        String titleLike = titleLike(filter);
+        if (titleLike != null) {
+            for (String trigram : trigrams(titleLike)) {
+                required.add(titleTrigrams.getOrDefault(trigram, new RoaringBitmap()));
+            }
+        }
+        if (filter.getMinPrice() != null || filter.getMaxPrice() != null) {
+            required.add(priceRange(filter.getMinPrice(), filter.getMaxPrice()));
+        }
+        if (filter.getCreatedAfter() != null || filter.getCreatedBefore() != null) {
+            required.add(createdRange(filter.getCreatedAfter(), filter.getCreatedBefore()));
+        }
+
+        RoaringBitmap matches = required.size() == 1
+            ? required.get(0).clone()
+            : FastAggregation.and(required.iterator());
+        if (titleLike != null) {
+            // Trigrams narrow the candidates; the substring check makes the result exact.
+            RoaringBitmap misses = new RoaringBitmap();
+            matches.forEach((int id) -> {
+                if (!documents.get(id).getTitle().toLowerCase(Locale.ROOT).contains(titleLike)) {
+                    misses.add(id);
+                }
+            });
+            matches.andNot(misses);
+        }
+        return matches;
+    }
+
+    /**
+     * Hydrates one page of {@code matches} in the requested order.
+     */
+    List<ServiceDto> page(RoaringBitmap matches, Pageable pageable) {
+        long cardinality = matches.getLongCardinality();
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Math.toIntExact(cardinality);
+        if (offset >= cardinality || limit == 0) {
+            return List.of();
+        }
+
+        List<Sort.Order> orders = pageable.getSort().toList();
+        Iterator<Integer> ordered;
+        if (orders.isEmpty()) {
+            ordered = iterator(matches.getIntIterator());
+        } else if (orders.size() == 1 && orders.get(0).getProperty().equals("id")) {
+            ordered = iterator(orders.get(0).isAscending()
+                ? matches.getIntIterator()
+                : matches.getReverseIntIterator());
+        } else if (orders.size() == 1 && cardinality > (offset + limit) * 8) {
+            // Broad filter: walk the sorted column and stop after the page is full.
+            Sort.Order order = orders.get(0);
+            if (order.getProperty().equals("price")) {
+                ordered = idsOf(order.isAscending() ? byPrice.iterator() : byPrice.descendingIterator(), matches);
+            } else {
+                ordered = idsOf(order.isAscending() ? byCreatedAt.iterator() : byCreatedAt.descendingIterator(),
+                    matches);
+            }
+        } else {
+            ordered = topK(matches, comparator(orders), Math.toIntExact(offset + limit)).iterator();
+        }
+
+        List<ServiceDto> page = new ArrayList<>(limit);
+        for (long skipped = 0; skipped < offset && ordered.hasNext(); skipped++) {
+            ordered.next();
+        }
+        while (page.size() < limit && ordered.hasNext()) {
+            page.add(copyOf(documents.get(ordered.next())));
+        }
+        return page;
+    }
+
+    ServiceFacetsDto facets(RoaringBitmap matches, List<BigDecimal> priceBounds) {
+        List<CategoryFacetDto> categories = new ArrayList<>();
+        byCategory.forEach((categoryId, ids) -> {
+            long count = RoaringBitmap.andCardinality(matches, ids);
+            if (count > 0) {
+                String name = documents.get(ids.first()).getCategoryName();
+                categories.add(new CategoryFacetDto(categoryId, name, count));
+            }
+        });
+        categories.sort(Comparator.comparingLong(CategoryFacetDto::getCount).reversed());
+
+        Map<ServiceType, Long> types = new EnumMap<>(ServiceType.class);
+        byType.forEach((type, ids) -> putNonZero(types, type, RoaringBitmap.andCardinality(matches, ids)));
+        Map<ServiceStatus, Long> statuses = new EnumMap<>(ServiceStatus.class);
+        byStatus.forEach((status, ids) -> putNonZero(statuses, status, RoaringBitmap.andCardinality(matches, ids)));
+        Map<Boolean, Long> barterCounts = new LinkedHashMap<>();
+        long withBarter = RoaringBitmap.andCardinality(matches, barter);
+        putNonZero(barterCounts, false, matches.getLongCardinality() - withBarter);
+        putNonZero(barterCounts, true, withBarter);
+
+        long[] buckets = new long[priceBounds.size() + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            NavigableMap<BigDecimal, RoaringBitmap> values = priceValues;
+            if (i > 0) {
+                values = values.tailMap(priceBounds.get(i - 1), true);
+            }
+            if (i < priceBounds.size()) {
+                values = values.headMap(priceBounds.get(i), false);
+            }
+            for (RoaringBitmap ids : values.values()) {
+                buckets[i] += RoaringBitmap.andCardinality(matches, ids);
+            }
+        }
+        return new ServiceFacetsDto(matches.getLongCardinality(), categories, types, statuses, barterCounts,
+            ServiceFacetRepository.priceBuckets(priceBounds, buckets));
+    }
+
+    private static <K> void putNonZero(Map<K, Long> counts, K key, long count) {
+        if (count > 0) {
+            counts.put(key, count);
+        }
+    }
+
+    private List<Integer> topK(RoaringBitmap matches, Comparator<ServiceDto> order, int k) {
+        PriorityQueue<ServiceDto> top = new PriorityQueue<>(k + 1, order.reversed());
+        matches.forEach((int id) -> {
+            top.offer(documents.get(id));
+            if (top.size() > k) {
+                top.poll();
+            }
+        });
+        return top.stream()
+            .sorted(order)
+            .map(document -> Math.toIntExact(document.getId()))
+            .toList();
+    }
+
+    private static Comparator<ServiceDto> comparator(List<Sort.Order> orders) {
+        Comparator<ServiceDto> comparator = null;
+        Sort.Direction last = Sort.Direction.ASC;
+        for (Sort.Order order : orders) {
+            Comparator<ServiceDto> next = switch (order.getProperty()) {
+                case "createdAt" -> Comparator.comparing(ServiceDto::getCreatedAt);
+                case "price" -> Comparator.comparing(ServiceDto::getPrice, BigDecimal::compareTo);
+                default -> Comparator.comparing(ServiceDto::getId);
+            };
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+            last = order.getDirection();
+        }
+        // Ties are broken by id in the direction of the last order, like walking a sorted column.
+        Comparator<ServiceDto> byId = Comparator.comparing(ServiceDto::getId);
+        return comparator.thenComparing(last.isDescending() ? byId.reversed() : byId);
+    }
+
+    private RoaringBitmap priceRange(BigDecimal min, BigDecimal max) {
+        NavigableMap<BigDecimal, RoaringBitmap> values = priceValues;
+        if (min != null) {
+            values = values.tailMap(min, true);
+        }
+        if (max != null) {
+            values = values.headMap(max, true);
+        }
+        return FastAggregation.or(values.values().iterator());
+    }
+
+    private RoaringBitmap createdRange(Instant after, Instant before) {
+        NavigableMap<Instant, RoaringBitmap> days = createdDays;
+        if (after != null) {
+            days = days.tailMap(day(after), true);
+        }
+        if (before != null) {
+            days = days.headMap(day(before), true);
+        }
+        if (days.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        RoaringBitmap ids = FastAggregation.or(days.values().iterator());
+        // Whole days in between are inside the range; only the two edge days need a closer look.
+        RoaringBitmap outside = new RoaringBitmap();
+        List<RoaringBitmap> edges = days.size() == 1
+            ? List.of(days.firstEntry().getValue())
+            : List.of(days.firstEntry().getValue(), days.lastEntry().getValue());
+        for (RoaringBitmap edge : edges) {
+            edge.forEach((int id) -> {
+                Instant createdAt = documents.get(id).getCreatedAt();
+                if ((after != null && createdAt.isBefore(after)) || (before != null && createdAt.isAfter(before))) {
+                    outside.add(id);
+                }
+            });
+        }
+        ids.andNot(outside);
+        return ids;
+    }
+
+    private static Instant day(Instant instant) {
+        return instant.truncatedTo(ChronoUnit.DAYS);
+    }
+
+    private static Iterator<Integer> idsOf(Iterator<? extends Entry<?>> column, RoaringBitmap matches) {
+        return new Iterator<>() {
+            private int next = advance();
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public Integer next() {
+                int current = next;
+                next = advance();
+                return current;
+            }
+
+            private int advance() {
+                while (column.hasNext()) {
+                    int id = column.next().id();
+                    if (matches.contains(id)) {
+                        return id;
+                    }
+                }
+                return -1;
+            }
+        };
+    }
+
+    private static Iterator<Integer> iterator(IntIterator ids) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return ids.hasNext();
+            }
+
+            @Override
+            public Integer next() {
+                return ids.next();
+            }
+        };
+    }
+
+    private static String titleLike(ServiceFilter filter) {
+        String titleLike = filter.getTitleLike();
+        return titleLike == null || titleLike.isBlank() ? null : titleLike.toLowerCase(Locale.ROOT);
+    }
+
+    private static <K> void unlink(Map<K, RoaringBitmap> postings, K key, int id) {
+        RoaringBitmap posting = postings.get(key);
+        if (posting != null) {
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    static Set<String> trigrams(String text) {
+        String normalized = text.toLowerCase(Locale.ROOT);
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= normalized.length(); i++) {
+            trigrams.add(normalized.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    // The index keeps its own copy, rounded to the precision Postgres stores, so range filters
+    // agree with SQL and callers cannot mutate indexed documents.
+    static ServiceDto copyOf(ServiceDto service) {
+        return new ServiceDto(
+            service.getId(),
+            service.getOwnerId(),
+            service.getOwnerEmail(),
+            service.getCategoryId(),
+            service.getCategoryName(),
+            service.getTitle(),
+            service.getDescription(),
+            service.getType(),
+            service.getStatus(),
+            service.getPrice().setScale(2, RoundingMode.HALF_UP),
+            service.isBarter(),
+            service.getPlace(),
+            toMicros(service.getCreatedAt())
+        );
+    }
+
+    // Same rounding the JDBC driver applies when it sends the timestamp.
+    private static Instant toMicros(Instant instant) {
+        Instant micros = instant.truncatedTo(ChronoUnit.MICROS);
+        return instant.getNano() % 1000 >= 500 ? micros.plusNanos(1000) : micros;
+    }
+
+    private record Entry<K>(K key, int id) {
+    }
+}
@@ -0,0 +1,52 @@
+package org.moysha.managementservice.service.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.function.Supplier;
+import org.moysha.managementservice.api.dto.CategoryDto;
+import org.moysha.managementservice.config.CategoryCacheSettings;
+import org.moysha.managementservice.config.StaleServingSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * The full category list as served by {@code GET /api/categories}, dropped after any committed
+ * category change.
+ */
+@Component
+public class CategoryListCache {
+
+    public static final String CACHE_NAME = "categories";
+
+    private static final String ALL = "all";
+
+    private final ReadThroughCache<String, List<CategoryDto>> cache;
+
+    public CategoryListCache(CategoryCacheSettings settings,
+                             StaleServingSettings stale,
+                             SingleFlight singleFlight,
+                             CacheRefresher refresher,
+                             ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = ReadThroughCache.<String, List<CategoryDto>>builder(CACHE_NAME)
+            .enabled(settings.isEnabled())
+            .ttl(settings.getTtl())
+            .maximumSize(1)
+            .stale(stale)
+            .singleFlight(singleFlight)
+            .refresher(refresher)
+            .build();
+        meterRegistry.ifAvailable(cache::bindTo);
+    }
+
+    public List<CategoryDto> get(Supplier<List<CategoryDto>> loader) {
+        return cache.get(ALL, loader);
+    }
+
+    public void invalidate() {
+        cache.invalidate(List.of(ALL));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
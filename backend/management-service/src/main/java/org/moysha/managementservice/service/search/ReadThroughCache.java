@@ -0,0 +1,256 @@
+package org.moysha.managementservice.service.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.QueryTimeoutException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import org.moysha.managementservice.config.StaleServingSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Caffeine-backed read-through cache shared by the catalog read paths. Misses are coalesced through
+ * {@link SingleFlight}. Past its TTL an entry is still served for the stale-while-revalidate window
+ * while one background reload replaces it, and for the stale-if-error window when the database is
+ * unreachable or times out.
+ */
+public class ReadThroughCache<K, V> {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadThroughCache.class);
+
+    private final String name;
+    private final boolean enabled;
+    private final long freshNanos;
+    private final long staleNanos;
+    private final long staleIfErrorNanos;
+    private final SingleFlight singleFlight;
+    private final CacheRefresher refresher;
+    private final Ticker ticker;
+    private final Cache<K, Entry<V>> cache;
+    // Bumped on every invalidation so a value loaded across one is not stored.
+    private final AtomicLong generation = new AtomicLong();
+    private final Set<K> refreshing = ConcurrentHashMap.newKeySet();
+
+    private ReadThroughCache(Builder<K, V> builder) {
+        this.name = builder.name;
+        this.enabled = builder.enabled;
+        this.freshNanos = builder.ttl.toNanos();
+        StaleServingSettings stale = builder.stale;
+        this.staleNanos = stale.isEnabled() ? stale.getWhileRevalidate().toNanos() : 0;
+        this.staleIfErrorNanos = stale.isEnabled() ? stale.getIfError().toNanos() : 0;
+        this.singleFlight = builder.singleFlight;
+        this.refresher = builder.refresher;
+        this.ticker = builder.ticker;
+
+        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofNanos(freshNanos + Math.max(staleNanos, staleIfErrorNanos)))
+            .ticker(ticker)
+            .recordStats();
+        if (builder.weigher != null) {
+            ToIntFunction<V> weigher = builder.weigher;
+            this.cache = caffeine.maximumWeight(builder.maximum)
+                .<K, Entry<V>>weigher((key, entry) -> weigher.applyAsInt(entry.value()))
+                .build();
+        } else {
+            this.cache = caffeine.maximumSize(builder.maximum).build();
+        }
+    }
+
+    public static <K, V> Builder<K, V> builder(String name) {
+        return new Builder<>(name);
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        // Reads inside a transaction may see its uncommitted rows, so they bypass the cache.
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return singleFlight.run(name, key, loader);
+        }
+        Entry<V> entry = cache.getIfPresent(key);
+        long age = entry == null ? 0 : ticker.read() - entry.loadedAt();
+        if (entry != null && age < freshNanos) {
+            return entry.value();
+        }
+        if (entry != null && age < freshNanos + staleNanos) {
+            refreshInBackground(key, loader);
+            Staleness.record(Duration.ofNanos(age), false);
+            return entry.value();
+        }
+        try {
+            return load(key, loader);
+        } catch (RuntimeException e) {
+            if (entry != null && age < freshNanos + staleIfErrorNanos && isUnavailable(e)) {
+                log.warn("Serving stale {} entry after load failure: {}", name, e.getMessage());
+                Staleness.record(Duration.ofNanos(age), true);
+                return entry.value();
+            }
+            throw e;
+        }
+    }
+
+    public void invalidate(Collection<K> keys) {
+        if (enabled && !keys.isEmpty()) {
+            List<K> changed = List.copyOf(keys);
+            AfterCommit.run(() -> {
+                generation.incrementAndGet();
+                cache.invalidateAll(changed);
+            });
+        }
+    }
+
+    public void invalidateIf(BiPredicate<K, V> affected) {
+        if (enabled) {
+            AfterCommit.run(() -> {
+                generation.incrementAndGet();
+                cache.asMap().entrySet().removeIf(e -> affected.test(e.getKey(), e.getValue().value()));
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long weightedSize() {
+        cache.cleanUp();
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+    }
+
+    // The generation is read inside the flight, so a caller that joins a load started before an
+    // invalidation judges it by the leader's generation rather than the one it saw on arrival.
+    private V load(K key, Supplier<V> loader) {
+        Loaded<V> loaded = singleFlight.run(name, key,
+            () -> new Loaded<>(generation.get(), ticker.read(), loader.get()));
+        if (loaded.value() != null && generation.get() == loaded.generation()) {
+            cache.put(key, new Entry<>(loaded.value(), loaded.startedAt()));
+        }
+        return loaded.value();
+    }
+
+    private void refreshInBackground(K key, Supplier<V> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        boolean submitted = refresher.submit(() -> {
+            try {
+                load(key, loader);
+            } catch (RuntimeException e) {
+                log.debug("Background refresh of {} entry failed", name, e);
+            } finally {
+                refreshing.remove(key);
+            }
+        });
+        if (!submitted) {
+            refreshing.remove(key);
+        }
+    }
+
+    private static boolean isUnavailable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                || cause instanceof DataAccessResourceFailureException
+                || cause instanceof CannotCreateTransactionException
+                || cause instanceof TransactionTimedOutException
+                || cause instanceof QueryTimeoutException
+                || cause instanceof SQLTransientException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+
+    private record Loaded<V>(long generation, long startedAt, V value) {
+    }
+
+    public static final class Builder<K, V> {
+
+        private final String name;
+        private boolean enabled = true;
+        private Duration ttl;
+        private long maximum;
+        private ToIntFunction<V> weigher;
+        private StaleServingSettings stale;
+        private SingleFlight singleFlight;
+        private CacheRefresher refresher;
+        private Ticker ticker = Ticker.systemTicker();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder<K, V> enabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public Builder<K, V> ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public Builder<K, V> maximumSize(long maximumSize) {
+            this.maximum = maximumSize;
+            this.weigher = null;
+            return this;
+        }
+
+        public Builder<K, V> maximumWeight(long maximumWeight, ToIntFunction<V> weigher) {
+            this.maximum = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        public Builder<K, V> stale(StaleServingSettings stale) {
+            this.stale = stale;
+            return this;
+        }
+
+        public Builder<K, V> singleFlight(SingleFlight singleFlight) {
+            this.singleFlight = singleFlight;
+            return this;
+        }
+
+        public Builder<K, V> refresher(CacheRefresher refresher) {
+            this.refresher = refresher;
+            return this;
+        }
+
+        Builder<K, V> ticker(Ticker ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public ReadThroughCache<K, V> build() {
+            return new ReadThroughCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.moysha.managementservice.service.search;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.moysha.managementservice.config.SearchCacheSettings;
+import org.moysha.managementservice.config.StaleServingSettings;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.domain.service.ServiceType;
+import org.moysha.managementservice.service.dto.ServiceFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of search results keyed by the normalized filter and page. A committed change
+ * evicts only the entries whose owner, category, type and status conditions the changed service
+ * satisfied before or after the change; other entries are left to the TTL.
+ */
+@Component
+public class SearchResultCache {
+
+    public static final String CACHE_NAME = "serviceSearch";
+
+    private final ReadThroughCache<Key, Object> cache;
+
+    public SearchResultCache(SearchCacheSettings settings,
+                             StaleServingSettings stale,
+                             SingleFlight singleFlight,
+                             CacheRefresher refresher,
+                             ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = ReadThroughCache.<Key, Object>builder(CACHE_NAME)
+            .enabled(settings.isEnabled())
+            .ttl(settings.getTtl())
+            .maximumSize(settings.getMaxSize())
+            .stale(stale)
+            .singleFlight(singleFlight)
+            .refresher(refresher)
+            .build();
+        meterRegistry.ifAvailable(cache::bindTo);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(ServiceFilter filter, Pageable pageable, String variant, Supplier<T> loader) {
+        return (T) cache.get(Key.of(filter, pageable, variant), (Supplier<Object>) loader);
+    }
+
+    public void invalidate(ServiceSlot... slots) {
+        invalidate(List.of(slots));
+    }
+
+    public void invalidate(Collection<ServiceSlot> slots) {
+        if (!slots.isEmpty()) {
+            List<ServiceSlot> changed = List.copyOf(slots);
+            cache.invalidateIf((key, result) -> changed.stream().anyMatch(key::covers));
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private record Key(Long ownerId,
+                       Long categoryId,
+                       ServiceType type,
+                       ServiceStatus status,
+                       String conditions,
+                       String page) {
+
+        static Key of(ServiceFilter filter, Pageable pageable, String variant) {
+            String page = (pageable.isPaged() ? pageable.getPageNumber() + "x" + pageable.getPageSize() : "all")
+                + ":" + pageable.getSort() + ":" + variant;
+            if (filter == null) {
+                return new Key(null, null, null, null, "", page);
+            }
+            String conditions = String.join("|",
+                text(filter.getTitleLike(), true),
+                amount(filter.getMinPrice()),
+                amount(filter.getMaxPrice()),
+                Boolean.TRUE.equals(filter.getBarterOnly()) ? "barter" : "",
+                String.valueOf(filter.getCreatedAfter()),
+                String.valueOf(filter.getCreatedBefore()),
+                text(filter.getTitleFuzzy(), false),
+                text(filter.getFullText(), false),
+                filter.isRankBySimilarity() + "," + filter.isRankByText() + "," + filter.isHighlight());
+            return new Key(filter.getOwnerId(), filter.getCategoryId(), filter.getType(), filter.getStatus(),
+                conditions, page);
+        }
+
+        boolean covers(ServiceSlot slot) {
+            return matches(ownerId, slot.ownerId())
+                && matches(categoryId, slot.categoryId())
+                && matches(type, slot.type())
+                && matches(status, slot.status());
+        }
+
+        private static boolean matches(Object condition, Object value) {
+            return condition == null || value == null || Objects.equals(condition, value);
+        }
+
+        private static String text(String value, boolean caseInsensitive) {
+            if (value == null || value.isBlank()) {
+                return "";
+            }
+            return caseInsensitive ? value.toLowerCase(Locale.ROOT) : value;
+        }
+
+        private static String amount(BigDecimal value) {
+            return value == null ? "" : value.stripTrailingZeros().toPlainString();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package org.moysha.managementservice.service.search;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.config.ServiceDetailCacheSettings;
+import org.moysha.managementservice.config.StaleServingSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Near cache of single services by id. Caffeine's W-TinyLFU admission keeps frequently viewed
+ * services resident when the memory budget is exhausted; entries are dropped after every committed
+ * change to the service or its category.
+ */
+@Component
+public class ServiceDetailCache {
+
+    public static final String CACHE_NAME = "serviceDetail";
+
+    private static final int ENTRY_OVERHEAD = 160;
+
+    private final ReadThroughCache<Long, ServiceDto> cache;
+
+    public ServiceDetailCache(ServiceDetailCacheSettings settings,
+                              StaleServingSettings stale,
+                              SingleFlight singleFlight,
+                              CacheRefresher refresher,
+                              ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = ReadThroughCache.<Long, ServiceDto>builder(CACHE_NAME)
+            .enabled(settings.isEnabled())
+            .ttl(settings.getTtl())
+            .maximumWeight(settings.getMaxMemory().toBytes(), ServiceDetailCache::estimateSize)
+            .stale(stale)
+            .singleFlight(singleFlight)
+            .refresher(refresher)
+            .build();
+        meterRegistry.ifAvailable(this::bindMetrics);
+    }
+
+    public ServiceDto get(Long serviceId, Function<Long, ServiceDto> loader) {
+        return cache.get(serviceId, () -> loader.apply(serviceId));
+    }
+
+    public void invalidate(Long serviceId) {
+        invalidate(List.of(serviceId));
+    }
+
+    public void invalidate(Collection<Long> serviceIds) {
+        cache.invalidate(serviceIds);
+    }
+
+    public void invalidateCategory(Long categoryId) {
+        cache.invalidateIf((id, service) -> Objects.equals(service.getCategoryId(), categoryId));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Approximate heap held by cached entries, in bytes.
+     */
+    public long estimatedMemory() {
+        return cache.weightedSize();
+    }
+
+    private void bindMetrics(MeterRegistry registry) {
+        cache.bindTo(registry);
+        Gauge.builder("cache.memory.estimated", this, ServiceDetailCache::estimatedMemory)
+            .tag("cache", CACHE_NAME)
+            .baseUnit("bytes")
+            .register(registry);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+            .tag("cache", CACHE_NAME)
+            .register(registry);
+    }
+
+    private static int estimateSize(ServiceDto service) {
+        return ENTRY_OVERHEAD
+            + chars(service.getOwnerEmail())
+            + chars(service.getCategoryName())
+            + chars(service.getTitle())
+            + chars(service.getDescription())
+            + chars(service.getPlace());
+    }
+
+    private static int chars(String value) {
+        // Compact strings store Latin-1 text in one byte per char; Cyrillic needs two.
+        return value == null ? 0 : 40 + 2 * value.length();
+    }
+}
@@ -0,0 +1,229 @@
+package org.moysha.managementservice.service.search;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.api.dto.ServiceFacetsDto;
+import org.moysha.managementservice.config.SearchIndexSettings;
+import org.moysha.managementservice.domain.service.ServiceEntity;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.repository.ServiceRepository;
+import org.moysha.managementservice.service.dto.ServiceFilter;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optional in-memory copy of the catalog that answers plain filter searches without touching the
+ * database. Changes made through the service layer are applied after their transaction commits,
+ * and a periodic reload picks up anything written around it.
+ */
+@Component
+public class ServiceSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ServiceSearchIndex.class);
+    private static final Set<String> SORTABLE = Set.of("id", "createdAt", "price");
+
+    private final ServiceRepository serviceRepository;
+    private final SearchIndexSettings settings;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private CatalogIndex index;
+    private List<Consumer<CatalogIndex>> pendingChanges;
+
+    public ServiceSearchIndex(ServiceRepository serviceRepository, SearchIndexSettings settings) {
+        this.serviceRepository = serviceRepository;
+        this.settings = settings;
+    }
+
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return index != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns empty when the index is disabled, still loading, or the query needs Postgres-specific
+     * matching (fuzzy, full-text, ranking) or an ordering it cannot reproduce.
+     */
+    public Optional<Page<ServiceDto>> search(ServiceFilter filter, Pageable pageable) {
+        if (!settings.isEnabled() || !supports(filter, pageable.getSort())) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            if (index == null) {
+                return Optional.empty();
+            }
+            RoaringBitmap matches = index.find(filter);
+            return Optional.of(new PageImpl<>(index.page(matches, pageable), pageable, matches.getLongCardinality()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<ServiceFacetsDto> facets(ServiceFilter filter, List<BigDecimal> priceBounds) {
+        if (!settings.isEnabled() || !supports(filter, Sort.unsorted())) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            return index == null ? Optional.empty() : Optional.of(index.facets(index.find(filter), priceBounds));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void put(ServiceDto service) {
+        afterCommit(index -> index.put(service));
+    }
+
+    public void remove(Long serviceId) {
+        afterCommit(index -> index.remove(serviceId));
+    }
+
+    public void changeStatus(Collection<Long> serviceIds, ServiceStatus status) {
+        List<Long> ids = List.copyOf(serviceIds);
+        afterCommit(index -> ids.forEach(id -> index.changeStatus(id, status)));
+    }
+
+    public void renameCategory(Long categoryId, String name) {
+        afterCommit(index -> index.renameCategory(categoryId, name));
+    }
+
+    /**
+     * Re-reads one service, for changes made by another replica.
+     */
+    public void reload(Long serviceId) {
+        reload(List.of(serviceId));
+    }
+
+    /**
+     * Re-reads several services, one query per load batch; ids without a row are removed.
+     */
+    public void reload(Collection<Long> serviceIds) {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(serviceIds);
+        for (int from = 0; from < ids.size(); from += settings.getLoadBatchSize()) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + settings.getLoadBatchSize()));
+            Specification<ServiceEntity> byIds = (root, query, cb) -> root.get("id").in(chunk);
+            Set<Long> missing = new HashSet<>(chunk);
+            for (ServiceDto row : serviceRepository.findDtos(byIds, Sort.unsorted(), 0, chunk.size())) {
+                missing.remove(row.getId());
+                put(row);
+            }
+            missing.forEach(this::remove);
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${search.index.refresh-interval:10m}")
+    public void refresh() {
+        if (settings.isEnabled()) {
+            rebuild();
+        }
+    }
+
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        CatalogIndex loaded = new CatalogIndex();
+        try {
+            load(loaded);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.warn("Service search index reload failed, keeping the previous state", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // Changes committed while loading may be missing from the snapshot, so replay them.
+            pendingChanges.forEach(change -> change.accept(loaded));
+            pendingChanges = null;
+            index = loaded;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Service search index loaded {} services", loaded.size());
+    }
+
+    private void load(CatalogIndex target) {
+        Sort byId = Sort.by(Sort.Order.asc("id"));
+        long lastId = 0;
+        while (true) {
+            long after = lastId;
+            Specification<ServiceEntity> spec = (root, query, cb) -> cb.greaterThan(root.get("id"), after);
+            List<ServiceDto> batch = serviceRepository.findDtos(spec, byId, 0, settings.getLoadBatchSize());
+            batch.forEach(target::put);
+            if (batch.size() < settings.getLoadBatchSize()) {
+                return;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+    }
+
+    private void afterCommit(Consumer<CatalogIndex> change) {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        AfterCommit.run(() -> apply(change));
+    }
+
+    private void apply(Consumer<CatalogIndex> change) {
+        lock.writeLock().lock();
+        try {
+            if (index != null) {
+                change.accept(index);
+            }
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static boolean supports(ServiceFilter filter, Sort sort) {
+        if (filter != null) {
+            if (filter.hasTitleFuzzy() || filter.hasFullText() || filter.isRanked() || filter.isHighlight()) {
+                return false;
+            }
+            // ILIKE wildcards inside the user's pattern are left to SQL.
+            String titleLike = filter.getTitleLike();
+            if (titleLike != null && (titleLike.contains("%") || titleLike.contains("_"))) {
+                return false;
+            }
+        }
+        return sort.stream().allMatch(order -> SORTABLE.contains(order.getProperty()) && !order.isIgnoreCase());
+    }
+}
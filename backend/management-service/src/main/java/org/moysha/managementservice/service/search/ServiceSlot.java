@@ -0,0 +1,26 @@
+package org.moysha.managementservice.service.search;
+
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.domain.service.ServiceEntity;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.domain.service.ServiceType;
+
+/**
+ * The attributes of a service that decide which cached searches it can appear in. A null
+ * attribute stands for any value.
+ */
+public record ServiceSlot(Long ownerId, Long categoryId, ServiceType type, ServiceStatus status) {
+
+    public static ServiceSlot of(ServiceEntity entity) {
+        return new ServiceSlot(entity.getOwner().getId(), entity.getCategory().getId(), entity.getType(),
+            entity.getStatus());
+    }
+
+    public static ServiceSlot of(ServiceDto service) {
+        return new ServiceSlot(service.getOwnerId(), service.getCategoryId(), service.getType(), service.getStatus());
+    }
+
+    public static ServiceSlot ofCategory(Long categoryId) {
+        return new ServiceSlot(null, categoryId, null, null);
+    }
+}
@@ -0,0 +1,85 @@
+package org.moysha.managementservice.service.search;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Collapses concurrent identical reads into one: the first caller runs the loader and every caller
+ * that arrives while it is in flight receives the same result or exception. Calls made inside a
+ * transaction run on their own, since they may see uncommitted rows.
+ */
+@Component
+public class SingleFlight {
+
+    private final ConcurrentMap<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> collapsed = new ConcurrentHashMap<>();
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public SingleFlight(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T run(String flight, Object key, Supplier<T> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        FlightKey flightKey = new FlightKey(flight, key);
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(flightKey, call);
+        if (leader != null) {
+            collapsedCounter(flight).increment();
+            return (T) await(leader);
+        }
+        try {
+            T result = loader.get();
+            call.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, call);
+        }
+    }
+
+    public long collapsedCount(String flight) {
+        LongAdder counter = collapsed.get(flight);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    private LongAdder collapsedCounter(String flight) {
+        return collapsed.computeIfAbsent(flight, name -> {
+            LongAdder counter = new LongAdder();
+            meterRegistry.ifAvailable(registry -> registry.more()
+                .counter("singleflight.collapsed", Tags.of("flight", name), counter, LongAdder::doubleValue));
+            return counter;
+        });
+    }
+
+    private static Object await(CompletableFuture<Object> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record FlightKey(String flight, Object key) {
+    }
+}
@@ -0,0 +1,39 @@
+package org.moysha.managementservice.service.search;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Records on the current web request that a cached read served a value past its freshness window,
+ * so the response can say so. Outside a request it does nothing.
+ */
+public final class Staleness {
+
+    private static final String ATTRIBUTE = Staleness.class.getName();
+
+    private Staleness() {
+    }
+
+    public record Mark(Duration age, boolean afterError) {
+    }
+
+    static void record(Duration age, boolean afterError) {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return;
+        }
+        Mark previous = (Mark) request.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        Mark mark = previous == null ? new Mark(age, afterError) : new Mark(
+            age.compareTo(previous.age()) > 0 ? age : previous.age(), afterError || previous.afterError());
+        request.setAttribute(ATTRIBUTE, mark, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    public static Optional<Mark> current() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        return request == null
+            ? Optional.empty()
+            : Optional.ofNullable((Mark) request.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+}
@@ -1,6 +1,19 @@
 package org.moysha.managementservice;
 
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.api.request.CreateServiceRequest;
+import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.domain.service.ServiceType;
+import org.moysha.managementservice.domain.user.AppUserEntity;
+import org.moysha.managementservice.domain.user.UserRole;
+import org.moysha.managementservice.repository.AppUserRepository;
+import org.moysha.managementservice.repository.CategoryRepository;
+import org.moysha.managementservice.service.ServiceCatalogService;
+import org.moysha.managementservice.support.RecordingStatementInspector;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -20,11 +33,59 @@ public abstract class IntegrationTestBase {
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ServiceCatalogService serviceCatalogService;
+
     @BeforeEach
     void resetDatabase() {
         jdbcTemplate.execute(
-            "TRUNCATE TABLE event_publication, message, response, favourite_service, feedback, report, bug_report, service, category, user_info, app_user RESTART IDENTITY CASCADE"
+            "TRUNCATE TABLE event_publication, message, response, favourite_service, feedback, report, bug_report, service, category, user_info, app_user CASCADE"
         );
+        // Sequences are not restarted: Hibernate keeps pooled id ranges in memory, so a restart would hand
+        // out ids the database gives out again. Cached entities of the truncated rows are dropped here.
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        // The inspector is static and would otherwise keep every statement of the whole run.
+        RecordingStatementInspector.clear();
         System.out.println("Database reset via truncate");
     }
+
+    protected AppUserEntity createUser(String email) {
+        AppUserEntity user = new AppUserEntity();
+        user.setEmail(email);
+        user.setToken(email + "-token");
+        user.setRole(UserRole.user);
+        return appUserRepository.save(user);
+    }
+
+    protected CategoryEntity createCategory(String name) {
+        CategoryEntity category = new CategoryEntity();
+        category.setName(name);
+        return categoryRepository.save(category);
+    }
+
+    protected ServiceDto createService(AppUserEntity owner, CategoryEntity category, String title) {
+        return createService(owner, category, title, ServiceType.OFFER, new BigDecimal("100.00"));
+    }
+
+    protected ServiceDto createService(AppUserEntity owner, CategoryEntity category, String title, ServiceType type,
+                                       BigDecimal price) {
+        CreateServiceRequest request = serviceRequest(owner.getId(), category.getId(), title);
+        request.setType(type);
+        request.setPrice(price);
+        return serviceCatalogService.create(request);
+    }
+
+    protected static CreateServiceRequest serviceRequest(Long ownerId, Long categoryId, String title) {
+        return new CreateServiceRequest(ownerId, categoryId, title, "Описание", ServiceType.OFFER,
+            new BigDecimal("100.00"), false, "Онлайн");
+    }
 }
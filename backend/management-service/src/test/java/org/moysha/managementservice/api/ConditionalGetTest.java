@@ -0,0 +1,142 @@
+package org.moysha.managementservice.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moysha.managementservice.IntegrationTestBase;
+import org.moysha.managementservice.api.request.CategoryRequest;
+import org.moysha.managementservice.api.request.CreateFeedbackRequest;
+import org.moysha.managementservice.api.request.UpdateServiceRequest;
+import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.domain.user.AppUserEntity;
+import org.moysha.managementservice.service.CategoryService;
+import org.moysha.managementservice.service.FeedbackService;
+import org.moysha.managementservice.service.ServiceCatalogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@AutoConfigureMockMvc
+class ConditionalGetTest extends IntegrationTestBase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ServiceCatalogService serviceCatalogService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private FeedbackService feedbackService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AppUserEntity owner;
+    private AppUserEntity reviewer;
+    private CategoryEntity category;
+    private Long serviceId;
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser("owner@example.com");
+        reviewer = createUser("reviewer@example.com");
+        category = createCategory("Учеба");
+        serviceId = createService(owner, category, "Java tutoring").getId();
+    }
+
+    @Test
+    void unchangedServiceIsAnsweredWithOneLookup() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/services/{id}", serviceId))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("\"");
+        assertThat(first.getResponse().getHeaders(HttpHeaders.ETAG)).hasSize(1);
+
+        Statistics statistics = statistics();
+        mockMvc.perform(get("/api/services/{id}", serviceId).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().string(""));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        serviceCatalogService.update(serviceId, new UpdateServiceRequest(
+            owner.getId(), null, "Kotlin tutoring", null, null, null, null
+        ));
+        String updated = mockMvc.perform(get("/api/services/{id}", serviceId).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(updated).isNotEqualTo(etag);
+
+        categoryService.rename(category.getId(), new CategoryRequest("Образование"));
+        String renamed = mockMvc.perform(get("/api/services/{id}", serviceId).header(HttpHeaders.IF_NONE_MATCH, updated))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // The user service owns app_user, so the owner's email changes behind this service's back.
+        jdbcTemplate.update("UPDATE app_user SET email = 'new-owner@example.com' WHERE id = ?", owner.getId());
+        mockMvc.perform(get("/api/services/{id}", serviceId).header(HttpHeaders.IF_NONE_MATCH, renamed))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(renamed)));
+    }
+
+    @Test
+    void categoryListTagChangesWithAnyCategory() throws Exception {
+        String etag = mockMvc.perform(get("/api/categories"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        categoryService.create(new CategoryRequest("Карьера"));
+        mockMvc.perform(get("/api/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+
+    @Test
+    void feedbackListTagChangesWithFeedback() throws Exception {
+        String etag = mockMvc.perform(get("/api/services/{id}/feedback", serviceId))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/services/{id}/feedback", serviceId).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        feedbackService.create(serviceId, new CreateFeedbackRequest(reviewer.getId(), (short) 5, "Отлично"));
+        String created = mockMvc.perform(get("/api/services/{id}/feedback", serviceId)
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        feedbackService.create(serviceId, new CreateFeedbackRequest(reviewer.getId(), (short) 4, "Хорошо"));
+        mockMvc.perform(get("/api/services/{id}/feedback", serviceId).header(HttpHeaders.IF_NONE_MATCH, created))
+            .andExpect(status().isOk());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
@@ -0,0 +1,40 @@
+package org.moysha.managementservice.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.moysha.managementservice.IntegrationTestBase;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.micrometer.metrics.test.autoconfigure.AutoConfigureMetrics;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+class MetricsEndpointTest extends IntegrationTestBase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusScrapeExposesRequestPoolHibernateAndJvmMeters() throws Exception {
+        mockMvc.perform(get("/api/categories")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/services/{id}", 987_654)).andExpect(status().isNotFound());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+            .contains("http_server_requests_seconds_bucket{", "uri=\"/api/categories\"",
+                "uri=\"/api/services/{serviceId}\"")
+            .contains("hikaricp_connections_active{", "hikaricp_connections_acquire_seconds_bucket{")
+            .contains("hibernate_statements_total{", "hibernate_entities_loads_total{",
+                "hibernate_second_level_cache_requests_total{", "hibernate_query_executions_max_seconds{")
+            .contains("jvm_memory_used_bytes{", "jvm_gc_memory_allocated_bytes_total{", "jvm_threads_live_threads{")
+            .contains("access_log_dropped_total{")
+            .contains("application=\"ManagementService\"");
+    }
+}
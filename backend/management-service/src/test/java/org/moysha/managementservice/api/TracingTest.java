@@ -0,0 +1,108 @@
+package org.moysha.managementservice.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moysha.managementservice.IntegrationTestBase;
+import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.domain.user.AppUserEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.micrometer.tracing.test.autoconfigure.AutoConfigureTracing;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+@AutoConfigureTracing
+@Import(TracingTest.InMemoryExport.class)
+@TestPropertySource(properties = {
+    "management.tracing.sampling.probability=1.0",
+    "management.tracing.export.otlp.enabled=false"
+})
+class TracingTest extends IntegrationTestBase {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_ID = "00f067aa0ba902b7";
+    private static final InMemorySpanExporter SPANS = InMemorySpanExporter.create();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Long serviceId;
+
+    @BeforeEach
+    void setUp() {
+        AppUserEntity owner = createUser("owner@example.com");
+        CategoryEntity category = createCategory("Учеба");
+        serviceId = createService(owner, category, "Java tutoring").getId();
+        SPANS.reset();
+    }
+
+    @Test
+    void requestTraceContinuesIncomingContextDownToJdbcStatements() throws Exception {
+        mockMvc.perform(get("/api/services/{id}", serviceId)
+                .header("traceparent", "00-" + TRACE_ID + "-" + PARENT_ID + "-01"))
+            .andExpect(status().isOk());
+
+        List<SpanData> trace = SPANS.getFinishedSpanItems().stream()
+            .filter(span -> span.getTraceId().equals(TRACE_ID))
+            .toList();
+        Map<String, SpanData> byId = trace.stream()
+            .collect(Collectors.toMap(SpanData::getSpanId, Function.identity()));
+
+        SpanData http = trace.stream()
+            .filter(span -> span.getKind() == SpanKind.SERVER)
+            .findFirst().orElseThrow();
+        assertThat(http.getName()).isEqualTo("http get /api/services/{serviceId}");
+        assertThat(http.getParentSpanId()).isEqualTo(PARENT_ID);
+
+        SpanData repository = trace.stream()
+            .filter(span -> span.getName().equals("ServiceRepository.findById"))
+            .findFirst().orElseThrow();
+        assertThat(ancestors(repository, byId)).contains(http.getSpanId());
+
+        List<SpanData> statements = trace.stream()
+            .filter(span -> span.getKind() == SpanKind.CLIENT
+                && "postgresql".equals(span.getAttributes().get(AttributeKey.stringKey("db.system"))))
+            .toList();
+        assertThat(statements).isNotEmpty();
+        assertThat(statements).anySatisfy(statement ->
+            assertThat(ancestors(statement, byId)).contains(repository.getSpanId(), http.getSpanId()));
+    }
+
+    private static List<String> ancestors(SpanData span, Map<String, SpanData> byId) {
+        List<String> ids = new ArrayList<>();
+        SpanData current = byId.get(span.getParentSpanId());
+        while (current != null) {
+            ids.add(current.getSpanId());
+            current = byId.get(current.getParentSpanId());
+        }
+        return ids;
+    }
+
+    @TestConfiguration
+    static class InMemoryExport {
+
+        @Bean
+        SpanProcessor inMemorySpans() {
+            return SimpleSpanProcessor.create(SPANS);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.moysha.managementservice.api.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moysha.managementservice.IntegrationTestBase;
+import org.moysha.managementservice.config.AccessLogSettings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+class AccessLogFilterTest extends IntegrationTestBase {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    private final List<AccessRecord> written = new ArrayList<>();
+    private AccessLog accessLog;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("accessLogSink", (AccessLogSink) written::add);
+        accessLog = new AccessLog(new AccessLogSettings(), beans.getBeanProvider(AccessLogSink.class),
+            beans.getBeanProvider(MeterRegistry.class));
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+            .addFilters(new AccessLogFilter(accessLog))
+            .build();
+    }
+
+    @Test
+    void recordsRouteTemplateStatusUserAndStatements() throws Exception {
+        mockMvc.perform(get("/api/services/{id}", 987_654))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/favorites").header("X-User-Id", "42"))
+            .andExpect(status().isOk());
+        accessLog.drain();
+
+        assertThat(written).hasSize(2);
+        AccessRecord missing = written.get(0);
+        assertThat(missing.routeKey()).isEqualTo("GET /api/services/{serviceId}");
+        assertThat(missing.status()).isEqualTo(404);
+        assertThat(missing.userId()).isNull();
+        assertThat(missing.statements()).isPositive();
+        assertThat(missing.latencyNanos()).isPositive();
+
+        AccessRecord favorites = written.get(1);
+        assertThat(favorites.route()).isEqualTo("/api/favorites");
+        assertThat(favorites.userId()).isEqualTo("42");
+    }
+
+    @Test
+    void recordsRequesterFromParameterAndBody() throws Exception {
+        mockMvc.perform(delete("/api/services/{id}", 987_654).param("requesterId", "7"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/services/{id}/feedback", 987_654)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"senderId\": 8, \"rate\": 5}"))
+            .andExpect(status().isNotFound());
+        accessLog.drain();
+
+        assertThat(written).extracting(AccessRecord::userId).containsExactly("7", "8");
+    }
+}
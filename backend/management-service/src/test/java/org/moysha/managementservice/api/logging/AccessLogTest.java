@@ -0,0 +1,103 @@
+package org.moysha.managementservice.api.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.moysha.managementservice.config.AccessLogSettings;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+class AccessLogTest {
+
+    private final List<AccessRecord> written = new ArrayList<>();
+
+    @Test
+    void drainsInArrivalOrderAndDropsWhenFull() {
+        AccessLog accessLog = accessLog(settings(4));
+
+        for (int i = 0; i < 6; i++) {
+            accessLog.record(record("/api/services/" + i, 200, 0));
+        }
+
+        assertThat(accessLog.dropped()).isEqualTo(2);
+        assertThat(accessLog.drain()).isEqualTo(4);
+        assertThat(written).extracting(AccessRecord::route)
+            .containsExactly("/api/services/0", "/api/services/1", "/api/services/2", "/api/services/3");
+
+        assertThat(accessLog.record(record("/api/services/4", 200, 0))).isTrue();
+        accessLog.drain();
+        assertThat(written).hasSize(5);
+    }
+
+    @Test
+    void concurrentWritersLoseNothingWhileThereIsRoom() throws Exception {
+        AccessLog accessLog = accessLog(settings(8_192));
+        int writers = 8;
+        int perWriter = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int w = 0; w < writers; w++) {
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perWriter; i++) {
+                        accessLog.record(record("/api/services", 200, 0));
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(accessLog.drain()).isEqualTo(writers * perWriter);
+        assertThat(accessLog.dropped()).isZero();
+    }
+
+    @Test
+    void sampledRoutesStillLogErrorsAndSlowRequests() {
+        AccessLogSettings settings = settings(64);
+        settings.setSampling(Map.of("GET /api/services", 0.0));
+        AccessLog accessLog = accessLog(settings);
+
+        accessLog.record(record("/api/services", 200, 0));
+        accessLog.record(record("/api/services", 503, 0));
+        accessLog.record(record("/api/services", 200, Duration.ofSeconds(2).toNanos()));
+        accessLog.record(record("/api/categories", 200, 0));
+        accessLog.drain();
+
+        assertThat(written).extracting(AccessRecord::route, AccessRecord::status).containsExactly(
+            tuple("/api/services", 503),
+            tuple("/api/services", 200),
+            tuple("/api/categories", 200));
+    }
+
+    private AccessLog accessLog(AccessLogSettings settings) {
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("accessLogSink", (AccessLogSink) written::add);
+        return new AccessLog(settings, beans.getBeanProvider(AccessLogSink.class),
+            beans.getBeanProvider(MeterRegistry.class));
+    }
+
+    private static AccessLogSettings settings(int bufferSize) {
+        AccessLogSettings settings = new AccessLogSettings();
+        settings.setBufferSize(bufferSize);
+        return settings;
+    }
+
+    private static AccessRecord record(String route, int status, long latencyNanos) {
+        return new AccessRecord("GET", route, status, latencyNanos, null, 0);
+    }
+}
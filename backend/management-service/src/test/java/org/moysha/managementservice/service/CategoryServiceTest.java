@@ -0,0 +1,99 @@
+package org.moysha.managementservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moysha.managementservice.IntegrationTestBase;
+import org.moysha.managementservice.api.dto.CategoryDto;
+import org.moysha.managementservice.api.request.CategoryRequest;
+import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.domain.user.AppUserEntity;
+import org.moysha.managementservice.domain.user.UserRole;
+import org.moysha.managementservice.repository.AppUserRepository;
+import org.moysha.managementservice.repository.CategoryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class CategoryServiceTest extends IntegrationTestBase {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CategoryEntity study;
+
+    @BeforeEach
+    void setUp() {
+        study = persistCategory("Учеба");
+        persistCategory("Карьера");
+    }
+
+    @Test
+    void repeatedListingIsServedFromQueryCache() {
+        categoryService.findAll();
+        Statistics statistics = statistics();
+
+        assertThat(categoryService.findAll()).extracting(CategoryDto::getName)
+            .containsExactlyInAnyOrder("Учеба", "Карьера");
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getQueryRegionStatistics(CategoryRepository.QUERY_CACHE_REGION).getHitCount())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void renameAndDeleteAreVisibleToCachedListing() {
+        CategoryEntity unused = persistCategory("Разное");
+        categoryService.findAll();
+
+        categoryService.rename(study.getId(), new CategoryRequest("Образование"));
+        categoryService.delete(unused.getId());
+
+        assertThat(categoryService.findAll()).extracting(CategoryDto::getName)
+            .containsExactlyInAnyOrder("Образование", "Карьера");
+    }
+
+    @Test
+    void repeatedServiceCreationReadsOwnerAndCategoryFromCache() {
+        AppUserEntity owner = persistUser("owner@example.com");
+        createService(owner, study, "Java tutoring");
+        Statistics statistics = statistics();
+
+        createService(owner, study, "Python tutoring");
+
+        assertThat(statistics.getDomainDataRegionStatistics("app-user").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("category").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getSecondLevelCacheMissCount()).isZero();
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private AppUserEntity persistUser(String email) {
+        AppUserEntity user = new AppUserEntity();
+        user.setEmail(email);
+        user.setToken(email + "-token");
+        user.setRole(UserRole.user);
+        return appUserRepository.save(user);
+    }
+
+    private CategoryEntity persistCategory(String name) {
+        CategoryEntity category = new CategoryEntity();
+        category.setName(name);
+        return categoryRepository.save(category);
+    }
+}
@@ -4,20 +4,35 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.moysha.managementservice.IntegrationTestBase;
 import org.moysha.managementservice.api.dto.ResponseDto;
 import org.moysha.managementservice.api.request.CreateResponseRequest;
 import org.moysha.managementservice.api.request.CreateServiceRequest;
+import org.moysha.managementservice.domain.response.ResponseStatus;
 import org.moysha.managementservice.domain.category.CategoryEntity;
 import org.moysha.managementservice.domain.service.ServiceType;
 import org.moysha.managementservice.domain.user.AppUserEntity;
 import org.moysha.managementservice.exception.BadRequestException;
 import org.moysha.managementservice.exception.ConflictException;
+import org.moysha.managementservice.exception.NotFoundException;
 import org.moysha.managementservice.repository.AppUserRepository;
 import org.moysha.managementservice.repository.CategoryRepository;
+import org.moysha.managementservice.support.QueryPlans;
+import org.moysha.managementservice.support.RecordingStatementInspector;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 class ResponseServiceTest extends IntegrationTestBase {
 
@@ -33,6 +48,9 @@ class ResponseServiceTest extends IntegrationTestBase {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private AppUserEntity owner;
     private AppUserEntity sender;
     private Long serviceId;
@@ -65,6 +83,52 @@ class ResponseServiceTest extends IntegrationTestBase {
         );
     }
 
+    @Test
+    void concurrentDuplicateResponsesConflictInsteadOfFailing() throws Exception {
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ResponseDto>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return responseService.respond(serviceId, new CreateResponseRequest(sender.getId()));
+                }));
+            }
+            start.countDown();
+            int created = 0;
+            for (Future<ResponseDto> result : results) {
+                try {
+                    result.get(10, TimeUnit.SECONDS);
+                    created++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(ConflictException.class);
+                }
+            }
+            assertThat(created).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void respondReactivatesArchivedResponse() {
+        ResponseDto created = responseService.respond(serviceId, new CreateResponseRequest(sender.getId()));
+        responseService.changeStatus(created.getId(), ResponseStatus.ARCHIVED, sender.getId());
+
+        ResponseDto reactivated = responseService.respond(serviceId, new CreateResponseRequest(sender.getId()));
+
+        assertThat(reactivated.getId()).isEqualTo(created.getId());
+        assertThat(reactivated.getStatus()).isEqualTo(ResponseStatus.ACTIVE);
+        assertThrows(NotFoundException.class, () ->
+            responseService.respond(-1L, new CreateResponseRequest(sender.getId()))
+        );
+        assertThrows(NotFoundException.class, () ->
+            responseService.respond(serviceId, new CreateResponseRequest(-1L))
+        );
+    }
+
     @Test
     void ownerCannotRespondToOwnService() {
         assertThrows(BadRequestException.class, () ->
@@ -72,6 +136,20 @@ class ResponseServiceTest extends IntegrationTestBase {
         );
     }
 
+    @Test
+    void statusFilterUsesServiceStatusIndex() {
+        responseService.respond(serviceId, new CreateResponseRequest(sender.getId()));
+        RecordingStatementInspector.clear();
+
+        responseService.getResponsesByStatus(serviceId, ResponseStatus.ACTIVE,
+            PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        String sql = RecordingStatementInspector.lastMatching("from response");
+        assertThat(sql).doesNotContain("upper(");
+        String plan = QueryPlans.explain(jdbcTemplate, sql, serviceId, "active", 20);
+        assertThat(plan).contains("idx_response_service_status_created_at");
+    }
+
     private AppUserEntity persistUser(String email) {
         AppUserEntity user = new AppUserEntity();
         user.setEmail(email);
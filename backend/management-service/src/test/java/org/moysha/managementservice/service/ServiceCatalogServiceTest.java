@@ -1,24 +1,48 @@
 package org.moysha.managementservice.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.moysha.managementservice.IntegrationTestBase;
+import org.moysha.managementservice.api.dto.BulkStatusResultDto;
+import org.moysha.managementservice.api.dto.CategoryFacetDto;
+import org.moysha.managementservice.api.dto.CursorPageDto;
+import org.moysha.managementservice.api.dto.PageDto;
+import org.moysha.managementservice.api.dto.PriceBucketDto;
 import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.api.dto.ServiceFacetsDto;
 import org.moysha.managementservice.api.request.CreateServiceRequest;
 import org.moysha.managementservice.api.request.UpdateServiceRequest;
 import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.domain.service.ServiceEntity;
 import org.moysha.managementservice.domain.service.ServiceStatus;
 import org.moysha.managementservice.domain.service.ServiceType;
 import org.moysha.managementservice.domain.user.AppUserEntity;
 import org.moysha.managementservice.repository.AppUserRepository;
 import org.moysha.managementservice.repository.CategoryRepository;
+import org.moysha.managementservice.repository.ServiceRepository;
+import org.moysha.managementservice.service.dto.CountMode;
 import org.moysha.managementservice.service.dto.ServiceFilter;
+import org.moysha.managementservice.service.dto.ServiceScope;
+import org.moysha.managementservice.service.dto.ServiceSort;
+import org.moysha.managementservice.support.QueryPlans;
+import org.moysha.managementservice.support.RecordingStatementInspector;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 class ServiceCatalogServiceTest extends IntegrationTestBase {
 
@@ -31,6 +55,18 @@ class ServiceCatalogServiceTest extends IntegrationTestBase {
     @Autowired
     private AppUserRepository appUserRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private AppUserEntity owner;
     private CategoryEntity studyCategory;
     private CategoryEntity careerCategory;
@@ -157,17 +193,392 @@ class ServiceCatalogServiceTest extends IntegrationTestBase {
         );
     }
 
-    private AppUserEntity createUser(String email) {
-        AppUserEntity user = new AppUserEntity();
-        user.setEmail(email);
-        user.setToken(email + "-token");
-        user.setRole(org.moysha.managementservice.domain.user.UserRole.user);
-        return appUserRepository.save(user);
+    @Test
+    void ownerMutationsDoNotLoadEntities() {
+        ServiceDto created = createService("Разбор домашки", new BigDecimal("400.00"));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        RecordingStatementInspector.clear();
+
+        ServiceDto updated = serviceCatalogService.update(created.getId(), new UpdateServiceRequest(
+            owner.getId(), careerCategory.getId(), null, "Новое описание", null, true, null
+        ));
+        ServiceDto archived = serviceCatalogService.changeStatus(created.getId(), ServiceStatus.ARCHIVED, owner.getId());
+        serviceCatalogService.delete(created.getId(), owner.getId());
+
+        // Hibernate only writes the domain events to the event store.
+        assertThat(RecordingStatementInspector.countNotMatching("event_publication")).isZero();
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(updated.getTitle()).isEqualTo("Разбор домашки");
+        assertThat(updated.getDescription()).isEqualTo("Новое описание");
+        assertThat(updated.getCategoryName()).isEqualTo("Карьера");
+        assertThat(updated.getOwnerEmail()).isEqualTo("owner@example.com");
+        assertThat(updated.isBarter()).isTrue();
+        assertThat(archived.getStatus()).isEqualTo(ServiceStatus.ARCHIVED);
+        assertThat(serviceCatalogService.findRevision(created.getId())).isEmpty();
+    }
+
+    @Test
+    void rejectedMutationsReportTheCause() {
+        AppUserEntity moderator = createUser("moderator@example.com");
+        moderator.setRole(org.moysha.managementservice.domain.user.UserRole.moderator);
+        appUserRepository.save(moderator);
+        AppUserEntity stranger = createUser("stranger@example.com");
+        ServiceDto created = createService("Консультация", new BigDecimal("700.00"));
+
+        assertThat(serviceCatalogService.changeStatus(created.getId(), ServiceStatus.ARCHIVED, moderator.getId())
+            .getStatus()).isEqualTo(ServiceStatus.ARCHIVED);
+        org.junit.jupiter.api.Assertions.assertThrows(
+            org.moysha.managementservice.exception.BadRequestException.class,
+            () -> serviceCatalogService.changeStatus(created.getId(), ServiceStatus.ACTIVE, stranger.getId())
+        );
+        org.junit.jupiter.api.Assertions.assertThrows(
+            org.moysha.managementservice.exception.NotFoundException.class,
+            () -> serviceCatalogService.archive(-1L, owner.getId())
+        );
+        org.junit.jupiter.api.Assertions.assertThrows(
+            org.moysha.managementservice.exception.NotFoundException.class,
+            () -> serviceCatalogService.update(created.getId(), new UpdateServiceRequest(
+                owner.getId(), -1L, null, null, null, null, null
+            ))
+        );
+        org.junit.jupiter.api.Assertions.assertThrows(
+            org.moysha.managementservice.exception.NotFoundException.class,
+            () -> serviceCatalogService.create(new CreateServiceRequest(
+                -1L, studyCategory.getId(), "Без владельца", "Описание", ServiceType.OFFER,
+                new BigDecimal("100.00"), false, "Онлайн"
+            ))
+        );
+    }
+
+    @Test
+    void bulkStatusChangesRunAsOneStatementPerScope() {
+        AppUserEntity moderator = createUser("moderator@example.com");
+        moderator.setRole(org.moysha.managementservice.domain.user.UserRole.moderator);
+        appUserRepository.save(moderator);
+        ServiceDto first = createService("Репетиторство", new BigDecimal("500.00"));
+        ServiceDto second = createService("Проверка эссе", new BigDecimal("300.00"));
+        ServiceDto third = createService("Помощь с резюме", new BigDecimal("200.00"));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        RecordingStatementInspector.clear();
+
+        BulkStatusResultDto byIds = serviceCatalogService.changeStatus(
+            ServiceScope.ofIds(List.of(first.getId(), second.getId(), -1L)), ServiceStatus.ARCHIVED, moderator.getId(),
+            false);
+        assertThat(byIds.getUpdated()).isEqualTo(2);
+        assertThat(byIds.getServices()).extracting(ServiceDto::getStatus).containsOnly(ServiceStatus.ARCHIVED);
+        assertThat(byIds.getServices()).extracting(ServiceDto::getOwnerEmail).containsOnly("owner@example.com");
+        // Only the requester's role and the event store go through Hibernate; no service entity is loaded.
+        assertThat(RecordingStatementInspector.countNotMatching("event_publication")).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(serviceCatalogService.getById(first.getId()).getStatus()).isEqualTo(ServiceStatus.ARCHIVED);
+
+        // Already archived rows are skipped, so only the third one changes.
+        List<ServiceDto> byOwner = serviceCatalogService.changeUserServicesStatus(owner.getId(), ServiceStatus.ARCHIVED,
+            moderator.getId());
+        assertThat(byOwner).extracting(ServiceDto::getId).containsExactly(third.getId());
+
+        ServiceFilter active = new ServiceFilter(owner.getId(), null, null, ServiceStatus.ACTIVE, null, null, null,
+            null, null, null);
+        assertThat(serviceCatalogService.search(active, PageRequest.of(0, 10)).getTotalElements()).isZero();
+        BulkStatusResultDto byCategory = serviceCatalogService.changeStatus(
+            ServiceScope.ofCategory(studyCategory.getId()), ServiceStatus.ACTIVE, moderator.getId(), true);
+        assertThat(byCategory.getUpdated()).isEqualTo(3);
+        assertThat(byCategory.getServices()).isNull();
+        assertThat(serviceCatalogService.search(active, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(3);
+
+        org.junit.jupiter.api.Assertions.assertThrows(
+            org.moysha.managementservice.exception.BadRequestException.class,
+            () -> serviceCatalogService.changeStatus(ServiceScope.ofOwner(owner.getId()), ServiceStatus.ARCHIVED,
+                owner.getId(), true)
+        );
+        org.junit.jupiter.api.Assertions.assertThrows(
+            org.moysha.managementservice.exception.NotFoundException.class,
+            () -> serviceCatalogService.changeUserServicesStatus(-1L, ServiceStatus.ARCHIVED, moderator.getId())
+        );
+    }
+
+    @Test
+    void persistingManyServicesBatchesInserts() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<ServiceEntity> services = new ArrayList<>();
+            for (int i = 0; i < 120; i++) {
+                ServiceEntity service = new ServiceEntity();
+                service.setOwner(appUserRepository.getReferenceById(owner.getId()));
+                service.setCategory(categoryRepository.getReferenceById(studyCategory.getId()));
+                service.setTitle("Услуга " + i);
+                service.setDescription("Описание");
+                service.setType(ServiceType.OFFER);
+                service.setStatus(ServiceStatus.ACTIVE);
+                service.setPrice(new BigDecimal("100.00"));
+                service.setPlace("Онлайн");
+                services.add(service);
+            }
+            serviceRepository.saveAll(services);
+        });
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(120);
+        // Three batches of 50 and the pooled sequence calls instead of one INSERT per row.
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM service WHERE owner_id = ?", Long.class,
+            owner.getId())).isEqualTo(120);
+    }
+
+    @Test
+    void cursorSearchWalksAllPagesNewestFirst() {
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(createService("Консультация " + i, new BigDecimal("100.00")).getId());
+        }
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageDto<ServiceDto> page = serviceCatalogService.searchByCursor(ownerFilter(), null, cursor, 2);
+            page.getContent().forEach(service -> seen.add(service.getId()));
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(created.reversed());
+    }
+
+    @Test
+    void cursorSearchOrdersByPriceAcrossPages() {
+        createService("Дорого", new BigDecimal("900.00"));
+        createService("Дешево", new BigDecimal("100.00"));
+        createService("Средне", new BigDecimal("500.00"));
+        createService("Тоже средне", new BigDecimal("500.00"));
+
+        CursorPageDto<ServiceDto> first = serviceCatalogService.searchByCursor(ownerFilter(), ServiceSort.PRICE_ASC, null, 2);
+        CursorPageDto<ServiceDto> second = serviceCatalogService.searchByCursor(
+            ownerFilter(), ServiceSort.PRICE_ASC, first.getNextCursor(), 2);
+
+        assertThat(first.getContent()).extracting(ServiceDto::getTitle).containsExactly("Дешево", "Тоже средне");
+        assertThat(second.getContent()).extracting(ServiceDto::getTitle).containsExactly("Средне", "Дорого");
+        assertThat(second.isHasNext()).isFalse();
+
+        org.junit.jupiter.api.Assertions.assertThrows(
+            org.moysha.managementservice.exception.BadRequestException.class,
+            () -> serviceCatalogService.searchByCursor(ownerFilter(), ServiceSort.NEWEST, first.getNextCursor(), 2)
+        );
+    }
+
+    @Test
+    void searchSupportsEachCountMode() {
+        createService("Первая", new BigDecimal("300.00"));
+        createService("Вторая", new BigDecimal("100.00"));
+        createService("Третья", new BigDecimal("200.00"));
+        PageRequest firstPage = PageRequest.of(0, 2, Sort.by("price"));
+
+        PageDto<ServiceDto> none = serviceCatalogService.search(ownerFilter(), firstPage, CountMode.NONE);
+        assertThat(none.getContent()).extracting(ServiceDto::getTitle).containsExactly("Вторая", "Третья");
+        assertThat(none.isHasNext()).isTrue();
+        assertThat(none.getTotalElements()).isNull();
+
+        PageDto<ServiceDto> exact = serviceCatalogService.search(ownerFilter(), firstPage, CountMode.EXACT);
+        assertThat(exact.getTotalElements()).isEqualTo(3);
+        assertThat(exact.isTotalApproximate()).isFalse();
+
+        PageDto<ServiceDto> estimated = serviceCatalogService.search(ownerFilter(), firstPage, CountMode.ESTIMATED);
+        assertThat(estimated.isTotalApproximate()).isTrue();
+        assertThat(estimated.getTotalElements()).isGreaterThanOrEqualTo(3);
+
+        PageDto<ServiceDto> lastPage = serviceCatalogService.search(
+            ownerFilter(), PageRequest.of(1, 2, Sort.by("price")), CountMode.ESTIMATED);
+        assertThat(lastPage.isHasNext()).isFalse();
+        assertThat(lastPage.getTotalElements()).isEqualTo(3);
+        assertThat(lastPage.isTotalApproximate()).isFalse();
+    }
+
+    @Test
+    void searchPageCostsSameNumberOfStatementsRegardlessOfRows() {
+        createServicesForDistinctOwners(2);
+        long smallPage = statementsForSearchPage();
+
+        createServicesForDistinctOwners(15);
+        long fullPage = statementsForSearchPage();
+
+        assertThat(smallPage).isEqualTo(1);
+        assertThat(fullPage).isEqualTo(smallPage);
+    }
+
+    @Test
+    void categoryTypeStatusFilterUsesPartialIndex() {
+        createService("Помощь с Java", new BigDecimal("100.00"));
+        RecordingStatementInspector.clear();
+
+        serviceCatalogService.search(new ServiceFilter(
+            null, studyCategory.getId(), ServiceType.OFFER, ServiceStatus.ACTIVE, null, null, null, null, null, null
+        ), PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        String sql = RecordingStatementInspector.lastMatching("from service");
+        assertThat(sql).doesNotContain("upper(");
+        String plan = QueryPlans.explain(jdbcTemplate, sql, studyCategory.getId(), "offer", "active", 0, 20);
+        assertThat(plan).contains("service_pub_cat_type_created_idx");
+    }
+
+    @Test
+    void fuzzyTitleSearchToleratesTyposAndRanksBySimilarity() {
+        createService("Spring Boot mentoring", new BigDecimal("100.00"));
+        createService("Spring Boot", new BigDecimal("100.00"));
+        createService("Cooking lessons", new BigDecimal("100.00"));
+
+        Page<ServiceDto> page = serviceCatalogService.search(new ServiceFilter(
+            null, null, null, null, null, null, null, null, null, null, "Sprng Boot", true, null, false, false
+        ), PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).extracting(ServiceDto::getTitle)
+            .containsExactly("Spring Boot", "Spring Boot mentoring");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void titleFiltersUseTrigramIndex() {
+        createService("Spring Boot", new BigDecimal("100.00"));
+        PageRequest pageRequest = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        RecordingStatementInspector.clear();
+        serviceCatalogService.search(new ServiceFilter(
+            null, null, null, null, "boot", null, null, null, null, null
+        ), pageRequest);
+        String likeSql = RecordingStatementInspector.lastMatching("from service");
+        assertThat(likeSql).contains("ilike");
+        assertThat(QueryPlans.explainBitmapScans(jdbcTemplate, likeSql, "%boot%", 0, 20)).contains("idx_service_title_trgm");
+
+        RecordingStatementInspector.clear();
+        serviceCatalogService.search(new ServiceFilter(
+            null, null, null, null, null, null, null, null, null, null, "Sprng Boot", false, null, false, false
+        ), pageRequest);
+        String fuzzySql = RecordingStatementInspector.lastMatching("from service");
+        assertThat(QueryPlans.explainBitmapScans(jdbcTemplate, fuzzySql, "Sprng Boot", 0, 20)).contains("idx_service_title_trgm");
+    }
+
+    @Test
+    void fullTextSearchStemsRussianAndRanksTitleMatchesFirst() {
+        createService("Курсы программирования", "Нужен свой ноутбук и желание учиться");
+        createService("Ремонт ноутбуков", "Быстро чиню компьютеры");
+        createService("Уроки гитары", "Для начинающих");
+
+        Page<ServiceDto> page = serviceCatalogService.search(textFilter("ноутбук", true, true), PageRequest.of(0, 20));
+
+        assertThat(page.getContent()).extracting(ServiceDto::getTitle)
+            .containsExactly("Ремонт ноутбуков", "Курсы программирования");
+        assertThat(page.getContent().get(1).getSnippet()).contains("<b>ноутбук</b>");
+    }
+
+    @Test
+    void fullTextSnippetEscapesMarkupFromTheDescription() {
+        createService("Ремонт ноутбуков", "<img src=x onerror=alert(1)> чиню ноутбук & планшет");
+
+        Page<ServiceDto> page = serviceCatalogService.search(textFilter("ноутбук", true, true), PageRequest.of(0, 20));
+
+        String snippet = page.getContent().get(0).getSnippet();
+        assertThat(snippet).contains("&gt; чиню <b>ноутбук</b> &amp; планшет");
+        assertThat(snippet.replace("<b>", "").replace("</b>", "")).doesNotContain("<", ">");
+    }
+
+    @Test
+    void fullTextFilterUsesSearchVectorIndex() {
+        createService("Ремонт ноутбуков", "Быстро чиню компьютеры");
+        RecordingStatementInspector.clear();
+
+        serviceCatalogService.search(textFilter("ноутбук", false, false),
+            PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        String sql = RecordingStatementInspector.lastMatching("from service");
+        assertThat(QueryPlans.explainBitmapScans(jdbcTemplate, sql, "ноутбук", 0, 20))
+            .contains("idx_service_search_vector");
+    }
+
+    @Test
+    void facetsCountEveryDimensionOfTheFilteredServices() {
+        createService("Java", new BigDecimal("100.00"));
+        createService("Kotlin", new BigDecimal("700.00"));
+        ServiceDto archived = createService("Scala", new BigDecimal("5000.00"));
+        serviceCatalogService.archive(archived.getId(), owner.getId());
+        serviceCatalogService.create(new CreateServiceRequest(
+            owner.getId(), careerCategory.getId(), "Resume", "Описание", ServiceType.ORDER,
+            new BigDecimal("1000.00"), true, "Онлайн"
+        ));
+
+        ServiceFacetsDto facets = serviceCatalogService.facets(ownerFilter());
+
+        assertThat(facets.getTotal()).isEqualTo(4);
+        assertThat(facets.getCategories()).extracting(CategoryFacetDto::getCategoryName, CategoryFacetDto::getCount)
+            .containsExactly(tuple("Учебные", 3L), tuple("Карьера", 1L));
+        assertThat(facets.getTypes()).containsOnly(entry(ServiceType.OFFER, 3L), entry(ServiceType.ORDER, 1L));
+        assertThat(facets.getStatuses())
+            .containsOnly(entry(ServiceStatus.ACTIVE, 3L), entry(ServiceStatus.ARCHIVED, 1L));
+        assertThat(facets.getBarter()).containsOnly(entry(false, 3L), entry(true, 1L));
+        assertThat(facets.getPriceBuckets()).extracting(PriceBucketDto::getCount).containsExactly(1L, 1L, 1L, 1L, 0L);
+        assertThat(facets.getPriceBuckets().get(0).getFrom()).isNull();
+        assertThat(facets.getPriceBuckets().get(4).getTo()).isNull();
+    }
+
+    private ServiceFilter textFilter(String text, boolean rank, boolean highlight) {
+        return new ServiceFilter(
+            null, null, null, null, null, null, null, null, null, null, null, false, text, rank, highlight
+        );
+    }
+
+    private long statementsForSearchPage() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        Page<ServiceDto> page = serviceCatalogService.search(new ServiceFilter(
+            null, null, null, null, null, null, null, null, null, null
+        ), PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")));
+        assertThat(page.getContent()).allSatisfy(service -> {
+            assertThat(service.getOwnerEmail()).isNotBlank();
+            assertThat(service.getCategoryName()).isNotBlank();
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createServicesForDistinctOwners(int count) {
+        long existing = appUserRepository.count();
+        for (int i = 0; i < count; i++) {
+            AppUserEntity seller = createUser("seller" + (existing + i) + "@example.com");
+            CategoryEntity category = createCategory("Категория " + (existing + i));
+            serviceCatalogService.create(new CreateServiceRequest(
+                seller.getId(),
+                category.getId(),
+                "Услуга " + i,
+                "Описание",
+                ServiceType.OFFER,
+                new BigDecimal("100.00"),
+                false,
+                "Онлайн"
+            ));
+        }
+    }
+
+    private ServiceFilter ownerFilter() {
+        return new ServiceFilter(owner.getId(), null, null, null, null, null, null, null, null, null);
+    }
+
+    private ServiceDto createService(String title, BigDecimal price) {
+        return createService(title, "Описание", price);
     }
 
-    private CategoryEntity createCategory(String name) {
-        CategoryEntity category = new CategoryEntity();
-        category.setName(name);
-        return categoryRepository.save(category);
+    private ServiceDto createService(String title, String description) {
+        return createService(title, description, new BigDecimal("100.00"));
+    }
+
+    private ServiceDto createService(String title, String description, BigDecimal price) {
+        return serviceCatalogService.create(new CreateServiceRequest(
+            owner.getId(),
+            studyCategory.getId(),
+            title,
+            description,
+            ServiceType.OFFER,
+            price,
+            false,
+            "Онлайн"
+        ));
     }
 }
@@ -0,0 +1,158 @@
+package org.moysha.managementservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moysha.managementservice.IntegrationTestBase;
+import org.moysha.managementservice.api.dto.IngestResultDto;
+import org.moysha.managementservice.api.dto.RowErrorDto;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.config.IngestSettings;
+import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.domain.user.AppUserEntity;
+import org.moysha.managementservice.exception.BadRequestException;
+import org.moysha.managementservice.service.dto.ServiceFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class ServiceIngestServiceTest extends IntegrationTestBase {
+
+    @Autowired
+    private ServiceIngestService serviceIngestService;
+
+    @Autowired
+    private ServiceCatalogService serviceCatalogService;
+
+    @Autowired
+    private IngestSettings ingestSettings;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AppUserEntity owner;
+    private CategoryEntity category;
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser("dept@example.com");
+        category = createCategory("Учеба");
+    }
+
+    @Test
+    void ingestCreatesValidRowsAndReportsTheRest() {
+        createService(owner, category, "Уже есть");
+        AppUserEntity banned = createUser("banned@example.com");
+        jdbcTemplate.update("UPDATE app_user SET banned_till = now() + interval '1 day' WHERE id = ?", banned.getId());
+
+        IngestResultDto result = serviceIngestService.ingest(List.of(
+            serviceRequest(owner.getId(), category.getId(), "Матанализ"),
+            serviceRequest(owner.getId(), category.getId(), " "),
+            serviceRequest(-1L, category.getId(), "Без владельца"),
+            serviceRequest(owner.getId(), -1L, "Без категории"),
+            serviceRequest(owner.getId(), category.getId(), "Матанализ"),
+            serviceRequest(owner.getId(), category.getId(), "Уже есть"),
+            serviceRequest(banned.getId(), category.getId(), "От забаненного"),
+            serviceRequest(owner.getId(), category.getId(), "Линейная алгебра")
+        ));
+
+        assertThat(result.getReceived()).isEqualTo(8);
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(RowErrorDto::getRow, RowErrorDto::getMessage).containsExactly(
+            tuple(2, "title: must not be blank"),
+            tuple(3, "User not found: -1"),
+            tuple(4, "Category not found: -1"),
+            tuple(5, "Title repeats an earlier row for the same owner"),
+            tuple(6, "Owner already has a service with this title"),
+            tuple(7, "User is banned: " + banned.getId())
+        );
+        assertThat(serviceCatalogService.search(ownerFilter(), PageRequest.of(0, 10, Sort.by("title"))).getContent())
+            .extracting(ServiceDto::getTitle, ServiceDto::getOwnerEmail)
+            .containsExactly(
+                tuple("Линейная алгебра", "dept@example.com"),
+                tuple("Матанализ", "dept@example.com"),
+                tuple("Уже есть", "dept@example.com")
+            );
+    }
+
+    @Test
+    void csvUploadParsesQuotedFieldsAndReportsBadValues() {
+        String csv = "title,ownerId,categoryId,description,type,price,barter,place\r\n"
+            + "\"Разбор \"\"задач\"\"\"," + owner.getId() + "," + category.getId()
+            + ",\"Две строки,\nс запятой\",offer,150.50,true,\r\n"
+            + "Консультация," + owner.getId() + "," + category.getId() + ",Описание,rent,100,false,Онлайн\r\n"
+            + "Ревью кода," + owner.getId() + "," + category.getId() + ",Описание,ORDER,abc,false,Онлайн\r\n"
+            + "\r\n"
+            + "Короткая строка," + owner.getId() + "\r\n"
+            + "\r\n";
+
+        IngestResultDto result = serviceIngestService.ingestCsv(new StringReader(csv));
+
+        assertThat(result.getReceived()).isEqualTo(4);
+        assertThat(result.getCreated()).isEqualTo(1);
+        // Rows are file lines: the first record spans lines 2-3 and line 6 is blank.
+        assertThat(result.getErrors()).extracting(RowErrorDto::getRow, RowErrorDto::getMessage).containsExactly(
+            tuple(4, "Unknown service type: rent"),
+            tuple(5, "Not a number: abc"),
+            tuple(7, "Expected 8 fields but got 2")
+        );
+        ServiceDto created = serviceCatalogService.search(ownerFilter(), PageRequest.of(0, 10)).getContent().get(0);
+        assertThat(created.getTitle()).isEqualTo("Разбор \"задач\"");
+        assertThat(created.getDescription()).isEqualTo("Две строки,\nс запятой");
+        assertThat(created.getPrice()).isEqualByComparingTo("150.50");
+        assertThat(created.isBarter()).isTrue();
+        assertThat(created.getPlace()).isNull();
+
+        assertThrows(BadRequestException.class, () ->
+            serviceIngestService.ingestCsv(new StringReader("ownerId,title\n1,x\n")));
+    }
+
+    @Test
+    void csvUploadSpanningSeveralBatchesKeepsRowsApart() {
+        StringBuilder csv = new StringBuilder("ownerId,categoryId,title,description,type,price\n");
+        for (int i = 0; i < 7; i++) {
+            csv.append(owner.getId()).append(',').append(category.getId()).append(",Услуга ").append(i % 5)
+                .append(",Описание,offer,").append(i * 10).append('\n');
+        }
+
+        int batchSize = ingestSettings.getBatchSize();
+        ingestSettings.setBatchSize(3);
+        IngestResultDto result;
+        try {
+            result = serviceIngestService.ingestCsv(new StringReader(csv.toString()));
+        } finally {
+            ingestSettings.setBatchSize(batchSize);
+        }
+
+        assertThat(result.getReceived()).isEqualTo(7);
+        assertThat(result.getCreated()).isEqualTo(5);
+        assertThat(result.getErrors()).extracting(RowErrorDto::getRow, RowErrorDto::getMessage).containsExactly(
+            tuple(7, "Title repeats an earlier row for the same owner"),
+            tuple(8, "Title repeats an earlier row for the same owner")
+        );
+        assertThat(serviceCatalogService.search(ownerFilter(), PageRequest.of(0, 10, Sort.by("title"))).getContent())
+            .extracting(ServiceDto::getTitle, service -> service.getPrice().intValue())
+            .containsExactly(
+                tuple("Услуга 0", 0),
+                tuple("Услуга 1", 10),
+                tuple("Услуга 2", 20),
+                tuple("Услуга 3", 30),
+                tuple("Услуга 4", 40)
+            );
+        // Each batch takes one block of pooled ids instead of a sequence step of 50 per row.
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM service WHERE owner_id = ? ORDER BY id", Long.class,
+            owner.getId());
+        assertThat(ids.get(ids.size() - 1) - ids.get(0)).isLessThan(3 * 50);
+    }
+
+    private ServiceFilter ownerFilter() {
+        return new ServiceFilter(owner.getId(), null, null, null, null, null, null, null, null, null);
+    }
+}
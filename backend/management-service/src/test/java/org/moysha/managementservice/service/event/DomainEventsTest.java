@@ -0,0 +1,213 @@
+package org.moysha.managementservice.service.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moysha.managementservice.IntegrationTestBase;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.api.request.UpdateServiceRequest;
+import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.domain.user.AppUserEntity;
+import org.moysha.managementservice.service.ServiceCatalogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.modulith.events.ApplicationModuleListener;
+import org.springframework.stereotype.Component;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@TestPropertySource(properties = {
+    "events.listener-threads=2",
+    "service-detail.cache.enabled=true",
+    "events.retention=1h",
+    "events.purge-batch-size=2"
+})
+@Import(DomainEventsTest.CreatedServices.class)
+class DomainEventsTest extends IntegrationTestBase {
+
+    @Autowired
+    private ServiceCatalogService serviceCatalogService;
+
+    @Autowired
+    private EventPublicationRetention retention;
+
+    @Autowired
+    private CreatedServices createdServices;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private AppUserEntity owner;
+    private CategoryEntity study;
+
+    @BeforeEach
+    void setUp() {
+        createdServices.clear();
+        owner = createUser("owner@example.com");
+        study = createCategory("Учеба");
+    }
+
+    // Incomplete publications are republished when a context starts, and the next test class may
+    // start one before the truncation in its own setup.
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM event_publication");
+    }
+
+    @Test
+    void publicationsAreStoredWithTheChangeAndCompletedOffTheRequestThread() {
+        ServiceDto service = createService(owner, study, "Java tutoring");
+
+        // One publication per listener, written by the transaction that created the service.
+        assertThat(publications(ServiceCreated.class)).isEqualTo(2);
+        waitUntil(() -> incompletePublications() == 0);
+
+        assertThat(createdServices.received()).extracting(CreatedService::serviceId).containsExactly(service.getId());
+        assertThat(createdServices.received()).extracting(CreatedService::thread)
+            .allMatch(thread -> thread.startsWith("domain-event-"));
+    }
+
+    @Test
+    void writerReadsItsChangeBackWhileListenersAreStillQueued() throws Exception {
+        ServiceDto service = createService(owner, study, "Java tutoring");
+        waitUntil(() -> incompletePublications() == 0);
+        assertThat(serviceCatalogService.getById(service.getId()).getTitle()).isEqualTo("Java tutoring");
+
+        // Both listener threads are parked, so the update's listeners cannot run before the read.
+        CountDownLatch gate = createdServices.hold();
+        try {
+            createService(owner, study, "Kotlin tutoring");
+            createService(owner, study, "Scala tutoring");
+            waitUntil(() -> createdServices.held() == 2);
+
+            serviceCatalogService.update(service.getId(), new UpdateServiceRequest(
+                owner.getId(), null, "Java mentoring", null, null, null, null));
+
+            assertThat(serviceCatalogService.getById(service.getId()).getTitle()).isEqualTo("Java mentoring");
+        } finally {
+            gate.countDown();
+        }
+        waitUntil(() -> incompletePublications() == 0);
+    }
+
+    @Test
+    void rolledBackChangePublishesNothing() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            createService(owner, study, "Java tutoring");
+            status.setRollbackOnly();
+        });
+
+        assertThat(publications(ServiceCreated.class)).isZero();
+        assertThat(createdServices.received()).isEmpty();
+    }
+
+    @Test
+    void retentionPurgesOldCompletedPublicationsInBatches() {
+        Instant now = Instant.now();
+        for (int i = 0; i < 5; i++) {
+            insertPublication(now.minus(3, ChronoUnit.HOURS), now.minus(2, ChronoUnit.HOURS));
+        }
+        insertPublication(now.minus(2, ChronoUnit.MINUTES), now.minus(1, ChronoUnit.MINUTES));
+        insertPublication(now.minus(3, ChronoUnit.HOURS), null);
+
+        assertThat(retention.purge()).isEqualTo(5);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM event_publication", Long.class)).isEqualTo(2);
+        assertThat(incompletePublications()).isEqualTo(1);
+        assertThat(retention.purge()).isZero();
+    }
+
+    private long publications(Class<?> eventType) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM event_publication WHERE event_type = ?",
+            Long.class, eventType.getName());
+    }
+
+    private long incompletePublications() {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM event_publication WHERE completion_date IS NULL", Long.class);
+    }
+
+    private void insertPublication(Instant publishedAt, Instant completedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO event_publication (id, listener_id, event_type, serialized_event, publication_date,
+                                               completion_date, status)
+                VALUES (?, 'test-listener', 'test-event', '{}', ?, ?, ?)""",
+            UUID.randomUUID(), Timestamp.from(publishedAt), completedAt == null ? null : Timestamp.from(completedAt),
+            completedAt == null ? "PUBLISHED" : "COMPLETED");
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met within 5s").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+
+
+    record CreatedService(Long serviceId, String thread) {
+    }
+
+    @Component
+    static class CreatedServices {
+
+        private final List<CreatedService> events = new CopyOnWriteArrayList<>();
+        private final AtomicInteger held = new AtomicInteger();
+        private volatile CountDownLatch gate;
+
+        @ApplicationModuleListener
+        void on(ServiceCreated event) throws InterruptedException {
+            events.add(new CreatedService(event.serviceId(), Thread.currentThread().getName()));
+            CountDownLatch current = gate;
+            if (current != null) {
+                held.incrementAndGet();
+                current.await(5, TimeUnit.SECONDS);
+            }
+        }
+
+        // Parks every listener thread that handles a creation until the returned latch opens.
+        CountDownLatch hold() {
+            CountDownLatch latch = new CountDownLatch(1);
+            held.set(0);
+            gate = latch;
+            return latch;
+        }
+
+        int held() {
+            return held.get();
+        }
+
+        // Accessed through methods: the listener is proxied, and the proxy's own fields are empty.
+        List<CreatedService> received() {
+            return events;
+        }
+
+        void clear() {
+            events.clear();
+            gate = null;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package org.moysha.managementservice.service.invalidation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.LongStream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moysha.managementservice.IntegrationTestBase;
+import org.moysha.managementservice.api.dto.CategoryDto;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.domain.service.ServiceType;
+import org.moysha.managementservice.domain.user.AppUserEntity;
+import org.moysha.managementservice.repository.CategoryRepository;
+import org.moysha.managementservice.service.CategoryService;
+import org.moysha.managementservice.service.ServiceCatalogService;
+import org.moysha.managementservice.service.dto.ServiceFilter;
+import org.moysha.managementservice.service.search.CategoryListCache;
+import org.moysha.managementservice.service.search.SearchResultCache;
+import org.moysha.managementservice.service.search.ServiceDetailCache;
+import org.moysha.managementservice.service.search.ServiceSearchIndex;
+import org.moysha.managementservice.service.search.ServiceSlot;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@TestPropertySource(properties = {
+    "service-detail.cache.enabled=true",
+    "category.cache.enabled=true",
+    "search.cache.enabled=true",
+    "search.index.enabled=true",
+    "search.index.refresh-interval=1h",
+    "cache.invalidation.reconnect-delay=100ms"
+})
+class InvalidationBusTest extends IntegrationTestBase {
+
+    private static final String CHANNEL = "catalog_invalidation";
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 10);
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private ServiceCatalogService serviceCatalogService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ServiceDetailCache detailCache;
+
+    @Autowired
+    private CategoryListCache categoryCache;
+
+    @Autowired
+    private SearchResultCache searchCache;
+
+    @Autowired
+    private ServiceSearchIndex searchIndex;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Connection listener;
+    private AppUserEntity owner;
+    private CategoryEntity study;
+    private ServiceDto service;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        // Truncation between tests bypasses the service layer, so start from empty caches.
+        detailCache.invalidateAll();
+        categoryCache.invalidateAll();
+        searchCache.invalidateAll();
+        waitUntil(invalidationBus::isListening);
+
+        owner = createUser("owner@example.com");
+        study = createCategory("Учеба");
+        service = createService(owner, study, "Java tutoring");
+
+        listener = dataSource.getConnection();
+        try (Statement statement = listener.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+        }
+        receive();
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = listener.createStatement()) {
+            statement.execute("UNLISTEN *");
+        }
+        listener.close();
+    }
+
+    @Test
+    void noticeIsSentOnCommitOnly() throws SQLException {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            serviceCatalogService.changeStatus(service.getId(), ServiceStatus.ARCHIVED, owner.getId());
+            status.setRollbackOnly();
+        });
+        assertThat(receive()).isEmpty();
+
+        serviceCatalogService.archive(service.getId(), owner.getId());
+
+        assertThat(receive()).containsExactly(new ChangeNotice(EntityKind.SERVICE, List.of(service.getId()),
+            List.of(ServiceSlot.of(service), slot(ServiceStatus.ARCHIVED)), invalidationBus.origin()));
+    }
+
+    @Test
+    void largeChangeIsSplitAcrossNoticesWithinThePayloadLimit() throws SQLException {
+        List<Long> ids = LongStream.rangeClosed(1_000_000, 1_002_000).boxed().toList();
+        List<ServiceSlot> slots = List.of(ServiceSlot.of(service), slot(ServiceStatus.ARCHIVED));
+
+        invalidationBus.publish(EntityKind.SERVICE, ids, slots);
+
+        List<ChangeNotice> notices = receive();
+        assertThat(notices).hasSizeGreaterThan(1)
+            .allSatisfy(notice -> assertThat(notice.encode()).hasSizeLessThanOrEqualTo(InvalidationBus.MAX_PAYLOAD));
+        assertThat(notices).flatExtracting(ChangeNotice::ids).containsExactlyElementsOf(ids);
+        assertThat(notices).flatExtracting(ChangeNotice::slots).containsExactlyElementsOf(slots);
+    }
+
+    @Test
+    void serviceNoticeFromAnotherReplicaEvictsTheLocalCopy() {
+        serviceCatalogService.getById(service.getId());
+        jdbcTemplate.update("UPDATE service SET title = 'Kotlin tutoring' WHERE id = ?", service.getId());
+        assertThat(serviceCatalogService.getById(service.getId()).getTitle()).isEqualTo("Java tutoring");
+
+        notifyFromAnotherReplica(new ChangeNotice(EntityKind.SERVICE, List.of(service.getId()), List.of(), "replica2"));
+
+        waitUntil(() -> "Kotlin tutoring".equals(serviceCatalogService.getById(service.getId()).getTitle()));
+    }
+
+    @Test
+    void serviceNoticeFromAnotherReplicaKeepsUnrelatedSearchPages() {
+        CategoryEntity career = createCategory("Карьера");
+        ServiceFilter inStudy = categoryFilter(study.getId());
+        ServiceFilter inCareer = categoryFilter(career.getId());
+        serviceCatalogService.search(inStudy, FIRST_PAGE);
+        serviceCatalogService.search(inCareer, FIRST_PAGE);
+        jdbcTemplate.update("UPDATE service SET title = 'Kotlin tutoring' WHERE id = ?", service.getId());
+
+        notifyFromAnotherReplica(new ChangeNotice(EntityKind.SERVICE, List.of(service.getId()),
+            List.of(ServiceSlot.of(service)), "replica2"));
+
+        waitUntil(() -> "Kotlin tutoring".equals(
+            serviceCatalogService.search(inStudy, FIRST_PAGE).getContent().get(0).getTitle()));
+        CacheStats before = searchCache.stats();
+        serviceCatalogService.search(inCareer, FIRST_PAGE);
+        assertThat(searchCache.stats().minus(before).hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void categoryNoticeFromAnotherReplicaEvictsListingAndSecondLevelCache() {
+        categoryService.findAll();
+        categoryRepository.findById(study.getId());
+        jdbcTemplate.update("UPDATE category SET name = 'Образование' WHERE id = ?", study.getId());
+        assertThat(categoryService.findAll()).extracting(CategoryDto::getName).containsExactly("Учеба");
+
+        notifyFromAnotherReplica(new ChangeNotice(EntityKind.CATEGORY, List.of(study.getId()), List.of(), "replica2"));
+
+        waitUntil(() -> categoryService.findAll().get(0).getName().equals("Образование"));
+        assertThat(categoryRepository.findById(study.getId())).get()
+            .extracting(CategoryEntity::getName).isEqualTo("Образование");
+        assertThat(serviceCatalogService.getById(service.getId()).getCategoryName()).isEqualTo("Образование");
+    }
+
+    @Test
+    void reconnectRebuildsTheSearchIndex() {
+        searchIndex.rebuild();
+        jdbcTemplate.update("UPDATE service SET title = 'Kotlin tutoring' WHERE id = ?", service.getId());
+        ServiceFilter kotlin = new ServiceFilter(null, null, null, null, "kotlin", null, null, null, null, null);
+        assertThat(searchIndex.search(kotlin, PageRequest.of(0, 10))).get()
+            .extracting(Page::getTotalElements).isEqualTo(0L);
+
+        // Drops the listener's connection the way a network failure would.
+        jdbcTemplate.query("SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE query = ?", rs -> null,
+            "LISTEN \"" + CHANNEL + "\"");
+
+        waitUntil(() -> searchIndex.search(kotlin, PageRequest.of(0, 10)).orElseThrow().getTotalElements() == 1);
+    }
+
+    private ServiceSlot slot(ServiceStatus status) {
+        return new ServiceSlot(owner.getId(), study.getId(), ServiceType.OFFER, status);
+    }
+
+    private static ServiceFilter categoryFilter(Long categoryId) {
+        return new ServiceFilter(null, categoryId, null, null, null, null, null, null, null, null);
+    }
+
+    private void notifyFromAnotherReplica(ChangeNotice notice) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, notice.encode());
+    }
+
+    private List<ChangeNotice> receive() throws SQLException {
+        List<ChangeNotice> notices = new ArrayList<>();
+        PGNotification[] notifications = listener.unwrap(PGConnection.class).getNotifications(300);
+        if (notifications != null) {
+            for (PGNotification notification : notifications) {
+                ChangeNotice.decode(notification.getParameter()).ifPresent(notices::add);
+            }
+        }
+        return notices;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met within 5s").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
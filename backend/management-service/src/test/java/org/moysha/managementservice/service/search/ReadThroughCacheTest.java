@@ -0,0 +1,178 @@
+package org.moysha.managementservice.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moysha.managementservice.config.StaleServingSettings;
+import org.moysha.managementservice.exception.NotFoundException;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ReadThroughCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private SingleFlight singleFlight;
+    private ReadThroughCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        StaleServingSettings stale = new StaleServingSettings();
+        stale.setWhileRevalidate(Duration.ofMinutes(1));
+        stale.setIfError(Duration.ofMinutes(10));
+        // Runs refreshes on the calling thread so the test can observe them deterministically.
+        CacheRefresher inline = new CacheRefresher(stale) {
+            @Override
+            public boolean submit(Runnable refresh) {
+                refresh.run();
+                return true;
+            }
+        };
+        singleFlight = new SingleFlight(new DefaultListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        cache = ReadThroughCache.<String, String>builder("test")
+            .ttl(TTL)
+            .maximumSize(100)
+            .stale(stale)
+            .singleFlight(singleFlight)
+            .refresher(inline)
+            .ticker(now::get)
+            .build();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void freshEntryIsServedWithoutLoading() {
+        cache.get("key", () -> "v" + loads.incrementAndGet());
+        advance(TTL.minusSeconds(1));
+
+        assertThat(cache.get("key", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+        assertThat(Staleness.current()).isEmpty();
+    }
+
+    @Test
+    void staleEntryIsServedWhileARefreshReplacesIt() {
+        cache.get("key", () -> "v" + loads.incrementAndGet());
+        advance(TTL.plusSeconds(10));
+
+        assertThat(cache.get("key", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(Staleness.current()).contains(new Staleness.Mark(TTL.plusSeconds(10), false));
+
+        assertThat(cache.get("key", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void staleEntryIsServedWhenTheDatabaseTimesOut() {
+        cache.get("key", () -> "v1");
+        advance(Duration.ofMinutes(5));
+
+        String value = cache.get("key", () -> {
+            throw new QueryTimeoutException("canceling statement due to statement timeout");
+        });
+
+        assertThat(value).isEqualTo("v1");
+        assertThat(Staleness.current()).contains(new Staleness.Mark(Duration.ofMinutes(5), true));
+    }
+
+    @Test
+    void failuresOutsideTheWindowOrUnrelatedToTheDatabasePropagate() {
+        cache.get("key", () -> "v1");
+        advance(Duration.ofMinutes(5));
+        assertThrows(NotFoundException.class, () -> cache.get("key", () -> {
+            throw new NotFoundException("Service not found: 1");
+        }));
+
+        advance(Duration.ofMinutes(6));
+        assertThrows(QueryTimeoutException.class, () -> cache.get("key", () -> {
+            throw new QueryTimeoutException("canceling statement due to statement timeout");
+        }));
+    }
+
+    @Test
+    void invalidatedEntryIsNeverServedStale() {
+        cache.get("key", () -> "v1");
+        advance(TTL.plusSeconds(10));
+        cache.invalidate(List.of("key"));
+
+        assertThat(cache.get("key", () -> "v2")).isEqualTo("v2");
+        assertThat(Staleness.current()).isEmpty();
+    }
+
+    @Test
+    void followerJoiningALoadStartedBeforeAnInvalidationDoesNotStoreIt() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(() -> cache.get("key", () -> {
+                loading.countDown();
+                await(release);
+                return "old";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            cache.invalidate(List.of("key"));
+            Future<String> follower = executor.submit(() -> cache.get("key", () -> "unused"));
+            waitUntil(() -> singleFlight.collapsedCount("test") == 1);
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("old");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("old");
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.get("key", () -> "new")).isEqualTo("new");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met within 5s").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
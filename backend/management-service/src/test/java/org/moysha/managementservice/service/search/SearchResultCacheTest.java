@@ -0,0 +1,145 @@
+package org.moysha.managementservice.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moysha.managementservice.IntegrationTestBase;
+import org.moysha.managementservice.api.dto.PageDto;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.api.request.CategoryRequest;
+import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.domain.service.ServiceType;
+import org.moysha.managementservice.domain.user.AppUserEntity;
+import org.moysha.managementservice.service.CategoryService;
+import org.moysha.managementservice.service.ServiceCatalogService;
+import org.moysha.managementservice.service.dto.CountMode;
+import org.moysha.managementservice.service.dto.ServiceFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "search.cache.enabled=true")
+class SearchResultCacheTest extends IntegrationTestBase {
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 10, Sort.by("id"));
+
+    @Autowired
+    private SearchResultCache searchCache;
+
+    @Autowired
+    private ServiceCatalogService serviceCatalogService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private AppUserEntity owner;
+    private CategoryEntity study;
+    private CategoryEntity career;
+
+    @BeforeEach
+    void setUp() {
+        // Truncation between tests bypasses the service layer, so start from an empty cache.
+        searchCache.invalidateAll();
+        owner = createUser("owner@example.com");
+        study = createCategory("Учеба");
+        career = createCategory("Карьера");
+        createService(owner, study, "Java tutoring");
+        createService(owner, career, "CV review");
+    }
+
+    @Test
+    void repeatedSearchIsServedWithoutQueries() {
+        ServiceFilter filter = filter(study.getId(), null, "JAVA");
+        serviceCatalogService.search(filter, FIRST_PAGE);
+        CacheStats before = searchCache.stats();
+        Statistics statistics = statistics();
+
+        Page<ServiceDto> page = serviceCatalogService.search(filter(study.getId(), null, "java"), FIRST_PAGE);
+
+        assertThat(page.getContent()).extracting(ServiceDto::getTitle).containsExactly("Java tutoring");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        CacheStats delta = searchCache.stats().minus(before);
+        assertThat(delta.hitCount()).isEqualTo(1);
+        assertThat(delta.missCount()).isZero();
+    }
+
+    @Test
+    void changeEvictsOnlyEntriesItCouldAffect() {
+        serviceCatalogService.search(filter(study.getId(), null, null), FIRST_PAGE);
+        serviceCatalogService.search(filter(career.getId(), null, null), FIRST_PAGE, CountMode.EXACT);
+        serviceCatalogService.search(filter(study.getId(), ServiceType.ORDER, null), FIRST_PAGE);
+
+        createService(owner, study, "Python tutoring");
+        CacheStats before = searchCache.stats();
+
+        Page<ServiceDto> studyPage = serviceCatalogService.search(filter(study.getId(), null, null), FIRST_PAGE);
+        PageDto<ServiceDto> careerPage = serviceCatalogService.search(
+            filter(career.getId(), null, null), FIRST_PAGE, CountMode.EXACT);
+        serviceCatalogService.search(filter(study.getId(), ServiceType.ORDER, null), FIRST_PAGE);
+
+        assertThat(studyPage.getContent()).extracting(ServiceDto::getTitle)
+            .containsExactly("Java tutoring", "Python tutoring");
+        assertThat(careerPage.getTotalElements()).isEqualTo(1);
+        CacheStats delta = searchCache.stats().minus(before);
+        assertThat(delta.missCount()).isEqualTo(1);
+        assertThat(delta.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void statusChangeEvictsEntriesForOldAndNewStatus() {
+        ServiceDto service = serviceCatalogService.search(filter(study.getId(), null, null), FIRST_PAGE)
+            .getContent().get(0);
+        ServiceFilter active = statusFilter(ServiceStatus.ACTIVE);
+        ServiceFilter archived = statusFilter(ServiceStatus.ARCHIVED);
+        assertThat(serviceCatalogService.search(active, FIRST_PAGE).getTotalElements()).isEqualTo(2);
+        assertThat(serviceCatalogService.search(archived, FIRST_PAGE).getTotalElements()).isZero();
+
+        serviceCatalogService.archive(service.getId(), owner.getId());
+
+        assertThat(serviceCatalogService.search(active, FIRST_PAGE).getTotalElements()).isEqualTo(1);
+        assertThat(serviceCatalogService.search(archived, FIRST_PAGE).getContent())
+            .extracting(ServiceDto::getId).containsExactly(service.getId());
+    }
+
+    @Test
+    void categoryRenameEvictsEntriesForThatCategory() {
+        serviceCatalogService.search(filter(study.getId(), null, null), FIRST_PAGE);
+        serviceCatalogService.search(filter(career.getId(), null, null), FIRST_PAGE);
+
+        categoryService.rename(study.getId(), new CategoryRequest("Образование"));
+        CacheStats before = searchCache.stats();
+
+        Page<ServiceDto> page = serviceCatalogService.search(filter(study.getId(), null, null), FIRST_PAGE);
+        serviceCatalogService.search(filter(career.getId(), null, null), FIRST_PAGE);
+
+        assertThat(page.getContent()).extracting(ServiceDto::getCategoryName).containsExactly("Образование");
+        CacheStats delta = searchCache.stats().minus(before);
+        assertThat(delta.missCount()).isEqualTo(1);
+        assertThat(delta.hitCount()).isEqualTo(1);
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private ServiceFilter filter(Long categoryId, ServiceType type, String titleLike) {
+        return new ServiceFilter(null, categoryId, type, null, titleLike, null, null, null, null, null);
+    }
+
+    private ServiceFilter statusFilter(ServiceStatus status) {
+        return new ServiceFilter(null, null, null, status, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,143 @@
+package org.moysha.managementservice.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moysha.managementservice.IntegrationTestBase;
+import org.moysha.managementservice.api.dto.FavoriteDto;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.api.request.CategoryRequest;
+import org.moysha.managementservice.api.request.UpdateServiceRequest;
+import org.moysha.managementservice.config.ServiceDetailCacheSettings;
+import org.moysha.managementservice.config.StaleServingSettings;
+import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.domain.user.AppUserEntity;
+import org.moysha.managementservice.service.CategoryService;
+import org.moysha.managementservice.service.FavoriteService;
+import org.moysha.managementservice.service.ServiceCatalogService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.util.unit.DataSize;
+
+@TestPropertySource(properties = "service-detail.cache.enabled=true")
+class ServiceDetailCacheTest extends IntegrationTestBase {
+
+    @Autowired
+    private ServiceDetailCache detailCache;
+
+    @Autowired
+    private ServiceCatalogService serviceCatalogService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private FavoriteService favoriteService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private AppUserEntity owner;
+    private CategoryEntity study;
+    private ServiceDto service;
+
+    @BeforeEach
+    void setUp() {
+        // Truncation between tests bypasses the service layer, so start from an empty cache.
+        detailCache.invalidateAll();
+        owner = createUser("owner@example.com");
+        study = createCategory("Учеба");
+        service = createService(owner, study, "Java tutoring");
+    }
+
+    @Test
+    void repeatedLookupIsServedWithoutQueries() {
+        serviceCatalogService.getById(service.getId());
+        CacheStats before = detailCache.stats();
+        Statistics statistics = statistics();
+
+        ServiceDto cached = serviceCatalogService.getById(service.getId());
+
+        assertThat(cached.getTitle()).isEqualTo("Java tutoring");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(detailCache.stats().minus(before).hitCount()).isEqualTo(1);
+        assertThat(detailCache.estimatedMemory()).isPositive();
+    }
+
+    @Test
+    void favoriteCardIsServedFromTheCache() {
+        serviceCatalogService.getById(service.getId());
+        AppUserEntity fan = createUser("fan@example.com");
+        CacheStats before = detailCache.stats();
+
+        FavoriteDto favorite = favoriteService.addToFavorites(service.getId(), fan.getId());
+
+        assertThat(favorite.getService().getTitle()).isEqualTo("Java tutoring");
+        assertThat(detailCache.stats().minus(before).hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void mutationsAreVisibleToTheNextLookup() {
+        serviceCatalogService.getById(service.getId());
+        UpdateServiceRequest update = new UpdateServiceRequest();
+        update.setRequesterId(owner.getId());
+        update.setTitle("Kotlin tutoring");
+        serviceCatalogService.update(service.getId(), update);
+        assertThat(serviceCatalogService.getById(service.getId()).getTitle()).isEqualTo("Kotlin tutoring");
+
+        serviceCatalogService.archive(service.getId(), owner.getId());
+        assertThat(serviceCatalogService.getById(service.getId()).getStatus()).isEqualTo(ServiceStatus.ARCHIVED);
+
+        serviceCatalogService.changeStatus(service.getId(), ServiceStatus.ACTIVE, owner.getId());
+        assertThat(serviceCatalogService.getById(service.getId()).getStatus()).isEqualTo(ServiceStatus.ACTIVE);
+
+        categoryService.rename(study.getId(), new CategoryRequest("Образование"));
+        assertThat(serviceCatalogService.getById(service.getId()).getCategoryName()).isEqualTo("Образование");
+    }
+
+    @Test
+    void memoryBudgetBoundsTheCacheAndIsReported() {
+        ServiceDetailCacheSettings settings = new ServiceDetailCacheSettings();
+        settings.setMaxMemory(DataSize.ofKilobytes(4));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("meterRegistry", registry);
+        ObjectProvider<MeterRegistry> meterRegistry = beans.getBeanProvider(MeterRegistry.class);
+        StaleServingSettings stale = new StaleServingSettings();
+        ServiceDetailCache cache = new ServiceDetailCache(
+            settings, stale, new SingleFlight(meterRegistry), new CacheRefresher(stale), meterRegistry);
+
+        for (long id = 1; id <= 100; id++) {
+            long key = id;
+            cache.get(key, ignored -> copyOf(service, key));
+        }
+        cache.get(1L, ignored -> copyOf(service, 1L));
+
+        assertThat(cache.estimatedMemory()).isPositive().isLessThanOrEqualTo(DataSize.ofKilobytes(4).toBytes());
+        assertThat(registry.get("cache.memory.estimated").tag("cache", ServiceDetailCache.CACHE_NAME).gauge().value())
+            .isEqualTo((double) cache.estimatedMemory());
+        assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isPositive();
+    }
+
+    private ServiceDto copyOf(ServiceDto source, long id) {
+        return new ServiceDto(id, source.getOwnerId(), source.getOwnerEmail(), source.getCategoryId(),
+            source.getCategoryName(), source.getTitle(), source.getDescription(), source.getType(),
+            source.getStatus(), source.getPrice(), source.isBarter(), source.getPlace(), source.getCreatedAt());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
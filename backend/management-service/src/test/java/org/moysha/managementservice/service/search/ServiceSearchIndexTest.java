@@ -0,0 +1,229 @@
+package org.moysha.managementservice.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moysha.managementservice.IntegrationTestBase;
+import org.moysha.managementservice.api.dto.ServiceDto;
+import org.moysha.managementservice.api.dto.ServiceFacetsDto;
+import org.moysha.managementservice.api.request.CategoryRequest;
+import org.moysha.managementservice.api.request.UpdateServiceRequest;
+import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.domain.service.ServiceStatus;
+import org.moysha.managementservice.domain.service.ServiceType;
+import org.moysha.managementservice.domain.user.AppUserEntity;
+import org.moysha.managementservice.repository.ServiceFacetRepository;
+import org.moysha.managementservice.repository.ServiceRepository;
+import org.moysha.managementservice.service.CategoryService;
+import org.moysha.managementservice.service.ServiceCatalogService;
+import org.moysha.managementservice.service.ServiceIngestService;
+import org.moysha.managementservice.service.dto.ServiceFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = {
+    "search.index.enabled=true",
+    "search.index.refresh-interval=1h"
+})
+class ServiceSearchIndexTest extends IntegrationTestBase {
+
+    @Autowired
+    private ServiceSearchIndex searchIndex;
+
+    @Autowired
+    private ServiceCatalogService serviceCatalogService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private ServiceIngestService serviceIngestService;
+
+    @Autowired
+    private ServiceRepository serviceRepository;
+
+    @Autowired
+    private ServiceFacetRepository serviceFacetRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private AppUserEntity owner;
+    private CategoryEntity study;
+    private CategoryEntity career;
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser("owner@example.com");
+        study = createCategory("Учеба");
+        career = createCategory("Карьера");
+        createService(owner, study, "Java tutoring", ServiceType.OFFER, new BigDecimal("300.00"));
+        createService(owner, study, "Python tutoring", ServiceType.OFFER, new BigDecimal("100.00"));
+        createService(owner, study, "Need Java help", ServiceType.ORDER, new BigDecimal("200.00"));
+        createService(owner, career, "Resume review", ServiceType.OFFER, new BigDecimal("500.00"));
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void plainFiltersAreServedFromMemory() {
+        Statistics statistics = statistics();
+
+        Page<ServiceDto> page = serviceCatalogService.search(
+            filter(study.getId(), ServiceType.OFFER, "TUTOR"),
+            PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "price"))
+        );
+
+        assertThat(page.getContent()).extracting(ServiceDto::getTitle).containsExactly("Python tutoring");
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void ingestedServicesAreIndexed() {
+        serviceIngestService.ingestCsv(new StringReader("ownerId,categoryId,title,description,type,price\n"
+            + owner.getId() + "," + career.getId() + ",Java interview prep,Описание,offer,700\n"
+            + owner.getId() + "," + career.getId() + ",Mock interview,Описание,order,50\n"));
+
+        Statistics statistics = statistics();
+        Page<ServiceDto> page = serviceCatalogService.search(filter(career.getId(), null, null),
+            PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "price")));
+
+        assertThat(page.getContent()).extracting(ServiceDto::getTitle)
+            .containsExactly("Mock interview", "Resume review", "Java interview prep");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void committedChangesAreVisibleWithoutReload() {
+        ServiceDto created = createService(owner, career, "Java interview prep", ServiceType.OFFER,
+            new BigDecimal("700.00"));
+        ServiceDto review = serviceCatalogService.search(filter(career.getId(), null, "resume"), PageRequest.of(0, 10))
+            .getContent().get(0);
+        serviceCatalogService.update(created.getId(), new UpdateServiceRequest(
+            owner.getId(), null, "Kotlin interview prep", null, null, null, null
+        ));
+        serviceCatalogService.archive(review.getId(), owner.getId());
+        categoryService.rename(career.getId(), new CategoryRequest("Работа"));
+
+        Statistics statistics = statistics();
+        Page<ServiceDto> active = serviceCatalogService.search(
+            new ServiceFilter(null, career.getId(), null, ServiceStatus.ACTIVE, null, null, null, null, null, null),
+            PageRequest.of(0, 10)
+        );
+        Page<ServiceDto> java = serviceCatalogService.search(filter(null, null, "java"), PageRequest.of(0, 10));
+
+        assertThat(active.getContent()).extracting(ServiceDto::getTitle).containsExactly("Kotlin interview prep");
+        assertThat(active.getContent()).extracting(ServiceDto::getCategoryName).containsExactly("Работа");
+        assertThat(java.getContent()).extracting(ServiceDto::getTitle)
+            .containsExactlyInAnyOrder("Java tutoring", "Need Java help");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        serviceCatalogService.delete(created.getId(), owner.getId());
+        assertThat(serviceCatalogService.search(filter(career.getId(), null, null), PageRequest.of(0, 10))
+            .getContent()).extracting(ServiceDto::getTitle).containsExactly("Resume review");
+    }
+
+    @Test
+    void pagesFollowTheSameOrderAsSql() {
+        for (int i = 0; i < 20; i++) {
+            createService(owner, i % 2 == 0 ? study : career, "Lesson " + i, ServiceType.OFFER,
+                new BigDecimal((i % 5) + "00.00"));
+        }
+        searchIndex.rebuild();
+
+        for (Sort sort : List.of(
+            Sort.by(Sort.Direction.DESC, "createdAt"),
+            Sort.by(Sort.Direction.ASC, "price"),
+            Sort.by(Sort.Direction.DESC, "price"),
+            Sort.by(Sort.Order.asc("price"), Sort.Order.desc("createdAt"))
+        )) {
+            for (int page = 0; page < 4; page++) {
+                PageRequest pageRequest = PageRequest.of(page, 2, sort);
+                List<Long> fromIndex = serviceCatalogService.search(null, pageRequest).getContent().stream()
+                    .map(ServiceDto::getId)
+                    .toList();
+                List<Long> fromSql = serviceRepository.findDtos(
+                        (root, query, cb) -> cb.conjunction(), withIdTieBreak(sort), pageRequest.getOffset(), 2)
+                    .stream()
+                    .map(ServiceDto::getId)
+                    .toList();
+                assertThat(fromIndex).as("%s page %d", sort, page).isEqualTo(fromSql);
+            }
+        }
+    }
+
+    @Test
+    void rangeFiltersIncludeTheirBounds() {
+        List<ServiceDto> lessons = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            lessons.add(createService(owner, career, "Lesson " + i, ServiceType.OFFER,
+                new BigDecimal((i + 1) + "0.00")));
+        }
+        Instant after = serviceCatalogService.getById(lessons.get(1).getId()).getCreatedAt();
+        Instant before = serviceCatalogService.getById(lessons.get(4).getId()).getCreatedAt();
+
+        Page<ServiceDto> page = serviceCatalogService.search(new ServiceFilter(
+            null, career.getId(), null, null, null, new BigDecimal("30"), new BigDecimal("60.00"), null, after, before
+        ), PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "price")));
+
+        assertThat(page.getContent()).extracting(ServiceDto::getTitle)
+            .containsExactly("Lesson 2", "Lesson 3", "Lesson 4");
+    }
+
+    @Test
+    void facetsFromMemoryMatchTheGroupedQuery() {
+        List<BigDecimal> bounds = List.of(new BigDecimal("150"), new BigDecimal("300"));
+        for (ServiceFilter filter : Arrays.asList(
+            null,
+            filter(study.getId(), null, null),
+            new ServiceFilter(null, null, null, null, "tutoring", new BigDecimal("100"), null, null, null, null)
+        )) {
+            ServiceFacetsDto fromIndex = searchIndex.facets(filter, bounds).orElseThrow();
+            ServiceFacetsDto fromSql = serviceFacetRepository.countFacets(filter, bounds);
+            assertThat(fromIndex).usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(fromSql);
+        }
+    }
+
+    @Test
+    void databaseSpecificQueriesFallBackToSql() {
+        Statistics statistics = statistics();
+
+        Page<ServiceDto> page = serviceCatalogService.search(new ServiceFilter(
+            null, null, null, null, null, null, null, null, null, null, "Jva tutoring", false, null, false, false
+        ), PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(ServiceDto::getTitle).contains("Java tutoring");
+        assertThat(statistics.getPrepareStatementCount()).isPositive();
+    }
+
+    private Sort withIdTieBreak(Sort sort) {
+        Sort.Order last = sort.toList().get(sort.toList().size() - 1);
+        return sort.and(Sort.by(last.getDirection(), "id"));
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private ServiceFilter filter(Long categoryId, ServiceType type, String titleLike) {
+        return new ServiceFilter(null, categoryId, type, null, titleLike, null, null, null, null, null);
+    }
+}
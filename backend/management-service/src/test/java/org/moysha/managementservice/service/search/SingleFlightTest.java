@@ -0,0 +1,113 @@
+package org.moysha.managementservice.service.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moysha.managementservice.exception.NotFoundException;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private SingleFlight singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("meterRegistry", registry);
+        singleFlight = new SingleFlight(beans.getBeanProvider(MeterRegistry.class));
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalCallsShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently("detail", 42L, () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "service 42";
+        });
+        waitForCollapsed("detail", CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("service 42");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(registry.get("singleflight.collapsed").tag("flight", "detail").functionCounter().count())
+            .isEqualTo(CALLERS - 1);
+        assertThat(singleFlight.run("detail", 42L, loads::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    void waitingCallersReceiveTheLeadersException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = callConcurrently("detail", 7L, () -> {
+            await(release);
+            throw new NotFoundException("Service not found: 7");
+        });
+        waitForCollapsed("detail", CALLERS - 1);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            Exception failure = assertThrows(Exception.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertThat(failure.getCause()).isInstanceOf(NotFoundException.class);
+        }
+    }
+
+    @Test
+    void differentKeysAreNotCollapsed() {
+        assertThat(singleFlight.run("detail", 1L, () -> "one")).isEqualTo("one");
+        assertThat(singleFlight.run("search", 1L, () -> "page")).isEqualTo("page");
+        assertThat(singleFlight.collapsedCount("detail")).isZero();
+    }
+
+    private List<Future<String>> callConcurrently(String flight, Object key, Supplier<String> loader) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.run(flight, key, loader)));
+        }
+        return results;
+    }
+
+    private void waitForCollapsed(String flight, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (singleFlight.collapsedCount(flight) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(singleFlight.collapsedCount(flight)).isEqualTo(expected);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
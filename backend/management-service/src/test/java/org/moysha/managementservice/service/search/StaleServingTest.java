@@ -0,0 +1,73 @@
+package org.moysha.managementservice.service.search;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moysha.managementservice.IntegrationTestBase;
+import org.moysha.managementservice.api.StaleResponseAdvice;
+import org.moysha.managementservice.api.request.CategoryRequest;
+import org.moysha.managementservice.domain.category.CategoryEntity;
+import org.moysha.managementservice.service.CategoryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "category.cache.enabled=true",
+    "category.cache.ttl=100ms",
+    "cache.stale.while-revalidate=1h"
+})
+class StaleServingTest extends IntegrationTestBase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CategoryListCache categoryCache;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    private CategoryEntity study;
+
+    @BeforeEach
+    void setUp() {
+        // Truncation between tests bypasses the service layer, so start from an empty cache.
+        categoryCache.invalidateAll();
+        study = createCategory("Учеба");
+    }
+
+    @Test
+    void expiredEntryIsServedWithStalenessHeaders() throws Exception {
+        mockMvc.perform(get("/api/categories"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(StaleResponseAdvice.STALE_HEADER));
+        Thread.sleep(200);
+
+        mockMvc.perform(get("/api/categories"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].name", contains("Учеба")))
+            .andExpect(header().string(StaleResponseAdvice.STALE_HEADER, "while-revalidate"))
+            .andExpect(header().exists(HttpHeaders.AGE));
+    }
+
+    @Test
+    void committedChangeIsNeverHiddenByAStaleEntry() throws Exception {
+        mockMvc.perform(get("/api/categories")).andExpect(status().isOk());
+        Thread.sleep(200);
+
+        categoryService.rename(study.getId(), new CategoryRequest("Образование"));
+
+        mockMvc.perform(get("/api/categories"))
+            .andExpect(jsonPath("$[*].name", contains("Образование")))
+            .andExpect(header().doesNotExist(StaleResponseAdvice.STALE_HEADER));
+    }
+}
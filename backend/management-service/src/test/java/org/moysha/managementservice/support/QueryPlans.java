@@ -0,0 +1,64 @@
+package org.moysha.managementservice.support;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Types;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public final class QueryPlans {
+
+    private QueryPlans() {
+    }
+
+    /**
+     * Explains a recorded Hibernate statement with sequential scans disabled, so the plan shows
+     * whether the predicates can be answered from an index at all. Enum values are passed as
+     * strings and bound untyped, the same way the entity mapping binds them.
+     */
+    public static String explain(JdbcTemplate jdbcTemplate, String sql, Object... params) {
+        return explain(jdbcTemplate, false, sql, params);
+    }
+
+    /**
+     * Same as {@link #explain}, but also disables plain index scans. On tiny test tables a full
+     * scan of any btree index can look cheaper than a GIN lookup; with only bitmap scans left the
+     * plan has to pick an index that matches the WHERE clause.
+     */
+    public static String explainBitmapScans(JdbcTemplate jdbcTemplate, String sql, Object... params) {
+        return explain(jdbcTemplate, true, sql, params);
+    }
+
+    private static String explain(JdbcTemplate jdbcTemplate, boolean bitmapOnly, String sql, Object... params) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement setup = connection.createStatement()) {
+                setup.execute("SET enable_seqscan = off");
+                if (bitmapOnly) {
+                    setup.execute("SET enable_indexscan = off");
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 0; i < params.length; i++) {
+                    if (params[i] instanceof String) {
+                        statement.setObject(i + 1, params[i], Types.OTHER);
+                    } else {
+                        statement.setObject(i + 1, params[i]);
+                    }
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery()) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            } finally {
+                try (Statement reset = connection.createStatement()) {
+                    reset.execute("RESET enable_seqscan");
+                    reset.execute("RESET enable_indexscan");
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,41 @@
+package org.moysha.managementservice.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        synchronized (STATEMENTS) {
+            STATEMENTS.add(sql);
+        }
+        return sql;
+    }
+
+    public static void clear() {
+        synchronized (STATEMENTS) {
+            STATEMENTS.clear();
+        }
+    }
+
+    public static String lastMatching(String fragment) {
+        synchronized (STATEMENTS) {
+            for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+                if (STATEMENTS.get(i).contains(fragment)) {
+                    return STATEMENTS.get(i);
+                }
+            }
+        }
+        throw new AssertionError("No recorded statement contains: " + fragment);
+    }
+
+    public static long countNotMatching(String fragment) {
+        synchronized (STATEMENTS) {
+            return STATEMENTS.stream().filter(sql -> !sql.contains(fragment)).count();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.moysha.usermanagementmicroservice.configuration;
+
+import org.moysha.usermanagementmicroservice.logging.StatementCounter;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(AccessLogSettings.class)
+public class AccessLogConfig {
+
+    @Bean
+    @ConditionalOnBooleanProperty(name = "access-log.enabled", matchIfMissing = true)
+    static BeanPostProcessor statementCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? StatementCounter.counting(dataSource) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package org.moysha.usermanagementmicroservice.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogSettings {
+
+    private boolean enabled = true;
+    // Rounded up to a power of two; records that do not fit are dropped and counted.
+    private int bufferSize = 8_192;
+    private Duration flushInterval = Duration.ofMillis(200);
+    private Duration slowThreshold = Duration.ofSeconds(1);
+    // "METHOD /route/{template}" -> share of requests logged
+    private Map<String, Double> sampling = new HashMap<>();
+}
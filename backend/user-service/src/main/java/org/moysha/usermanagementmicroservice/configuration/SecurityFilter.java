@@ -5,6 +5,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.moysha.usermanagementmicroservice.logging.AccessLogFilter;
 import org.moysha.usermanagementmicroservice.models.AppUser;
 import org.moysha.usermanagementmicroservice.repositories.UserRepository;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -30,7 +31,8 @@ public class SecurityFilter extends OncePerRequestFilter {
         return path.startsWith("/auth")
             || path.startsWith("/swagger-ui")
             || path.startsWith("/swagger-resources")
-            || path.startsWith("/v3/api-docs");
+            || path.startsWith("/v3/api-docs")
+            || path.startsWith("/actuator");
     }
 
     @Override
@@ -54,6 +56,7 @@ public class SecurityFilter extends OncePerRequestFilter {
                         new UsernamePasswordAuthenticationToken(user, null, List.of(authority));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                request.setAttribute(AccessLogFilter.USER_ID_ATTRIBUTE, user.getId());
             }
         }
 
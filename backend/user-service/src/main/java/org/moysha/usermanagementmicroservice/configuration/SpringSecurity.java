@@ -27,6 +27,7 @@ public class SpringSecurity {
                 .authorizeHttpRequests(request -> request
                         .requestMatchers("/", "/auth/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/swagger-resources/**", "/v3/api-docs/**").permitAll()
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .requestMatchers("/admin/**").hasRole("admin")
                     .anyRequest().authenticated())
                 .headers(headers -> headers.cacheControl(cache -> cache.disable()))
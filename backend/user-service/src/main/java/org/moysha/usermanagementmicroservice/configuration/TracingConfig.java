@@ -0,0 +1,75 @@
+package org.moysha.usermanagementmicroservice.configuration;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.jdbc.datasource.JdbcTelemetry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Repository and JDBC spans beneath the HTTP server spans.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    static BeanPostProcessor tracingDataSource(ObjectProvider<OpenTelemetry> openTelemetry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                OpenTelemetry telemetry = openTelemetry.getIfAvailable();
+                return telemetry == null ? bean : JdbcTelemetry.create(telemetry).wrap(dataSource);
+            }
+        };
+    }
+
+    // Infrastructure role: applied by the proxy creator that already handles @Transactional.
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor repositoryObservationAdvisor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        MethodInterceptor interceptor = invocation -> {
+            ObservationRegistry registry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
+            String repository = repositoryName(invocation.getThis());
+            String method = invocation.getMethod().getName();
+            return Observation.createNotStarted("repository.invocation", registry)
+                    .contextualName(repository + "." + method)
+                    .lowCardinalityKeyValue("repository", repository)
+                    .lowCardinalityKeyValue("method", method)
+                    .observeChecked(invocation::proceed);
+        };
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return method.getDeclaringClass() != Object.class;
+            }
+        };
+        pointcut.setClassFilter(Repository.class::isAssignableFrom);
+        return new DefaultPointcutAdvisor(pointcut, interceptor);
+    }
+
+    private static String repositoryName(Object target) {
+        Class<?> type = target instanceof Advised advised && Proxy.isProxyClass(target.getClass())
+                ? advised.getProxiedInterfaces()[0]
+                : ClassUtils.getUserClass(target);
+        return type.getSimpleName();
+    }
+}
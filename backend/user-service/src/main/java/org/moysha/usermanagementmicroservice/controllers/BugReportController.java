@@ -33,13 +33,11 @@ public class BugReportController {
 
     @GetMapping
     public ResponseEntity<List<BugReportResponse>> getAllBugReports() {
-        System.err.println("Request: GET /bug-reports");
         return ResponseEntity.ok(bugReportService.getAllBugReports());
     }
 
     @GetMapping("/me")
     public ResponseEntity<List<BugReportResponse>> getMyBugReports(Authentication authentication) {
-        System.err.println("Request: GET /bug-reports/me");
         AppUser user = requireUser(authentication);
         return ResponseEntity.ok(bugReportService.getMyBugReports(user));
     }
@@ -49,7 +47,6 @@ public class BugReportController {
             @Valid @RequestBody BugReportCreateRequest request,
             Authentication authentication
     ) {
-        System.err.println("Request: POST /bug-reports");
         AppUser user = requireUser(authentication);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(bugReportService.createBugReport(user, request));
@@ -61,7 +58,6 @@ public class BugReportController {
             @Valid @RequestBody BugReportUpdateRequest request,
             Authentication authentication
     ) {
-        System.err.println("Request: PATCH /bug-reports/" + id);
         AppUser user = requireUser(authentication);
         return bugReportService.updateBugReport(user, id, request);
     }
@@ -71,7 +67,6 @@ public class BugReportController {
             @PathVariable Integer id,
             Authentication authentication
     ) {
-        System.err.println("Request: DELETE /bug-reports/" + id);
         AppUser user = requireUser(authentication);
         bugReportService.deleteBugReport(user, id);
         return ResponseEntity.noContent().build();
@@ -34,14 +34,12 @@ public class ReportController {
 
     @GetMapping("/me")
     public ResponseEntity<List<ReportResponse>> getMyReports(Authentication authentication) {
-        System.err.println("Request: GET /reports/me");
         AppUser user = requireUser(authentication);
         return ResponseEntity.ok(reportService.getReportsForUser(user));
     }
 
     @GetMapping
     public ResponseEntity<List<ReportResponse>> getAllReports(Authentication authentication) {
-        System.err.println("Request: GET /reports");
         AppUser user = requireUser(authentication);
         if (user.getRole() != UserRole.admin && user.getRole() != UserRole.moderator) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN);
@@ -54,7 +52,6 @@ public class ReportController {
             @Valid @RequestBody ReportCreateRequest request,
             Authentication authentication
     ) {
-        System.err.println("Request: POST /reports");
         AppUser user = requireUser(authentication);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(reportService.createReport(user, request));
@@ -66,7 +63,6 @@ public class ReportController {
             @Valid @RequestBody ReportUpdateRequest request,
             Authentication authentication
     ) {
-        System.err.println("Request: PATCH /reports/" + id);
         AppUser user = requireUser(authentication);
         return reportService.updateReport(user, id, request);
     }
@@ -76,7 +72,6 @@ public class ReportController {
             @PathVariable Integer id,
             Authentication authentication
     ) {
-        System.err.println("Request: DELETE /reports/" + id);
         AppUser user = requireUser(authentication);
         reportService.deleteReport(user, id);
         return ResponseEntity.noContent().build();
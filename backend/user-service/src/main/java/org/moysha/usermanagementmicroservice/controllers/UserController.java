@@ -19,9 +19,11 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/users")
@@ -34,19 +36,21 @@ public class UserController {
     @GetMapping
     @PreAuthorize("hasAnyRole('admin', 'moderator')")
     public List<UserResponse> getUsers() {
-        System.err.println("Request: GET /users");
         return userService.getAllUsers();
     }
 
     @GetMapping("/{id}")
-    public UserResponse getUser(@PathVariable Integer id) {
-        System.err.println("Request: GET /users/" + id);
+    public UserResponse getUser(@PathVariable Integer id, WebRequest request) {
+        // Validators are read before the body, so a concurrent update can only make them older than it.
+        Optional<UserRevision> revision = userService.getRevision(id);
+        if (revision.isPresent() && request.checkNotModified(revision.get().etag(), revision.get().lastModified())) {
+            return null;
+        }
         return userService.getUser(id);
     }
 
     @GetMapping("/me")
     public UserMeResponse getCurrentUser(Authentication authentication) {
-        System.err.println("Request: GET /users/me");
         if (authentication == null || !(authentication.getPrincipal() instanceof AppUser user)) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
         }
@@ -62,7 +66,6 @@ public class UserController {
             @PathVariable Integer id,
             @Valid @RequestBody UserRoleUpdateRequest request
     ) {
-        System.err.println("Request: PATCH /users/" + id + "/role");
         return userService.updateRole(id, request.getRole());
     }
 
@@ -73,7 +76,6 @@ public class UserController {
             @PathVariable Integer id,
             @Valid @RequestBody UserProfileRequest request
     ) {
-        System.err.println("Request: PATCH /users/" + id + "/profile");
         return userService.updateProfile(id, request);
     }
 
@@ -83,14 +85,12 @@ public class UserController {
             @PathVariable Integer id,
             @Valid @RequestBody UserBanRequest request
     ) {
-        System.err.println("Request: PATCH /users/" + id + "/ban");
         return userService.updateBanStatus(id, request.getBannedTill());
     }
 
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('admin')")
     public ResponseEntity<Void> deleteUser(@PathVariable Integer id) {
-        System.err.println("Request: DELETE /users/" + id);
         userService.deleteUser(id);
         return ResponseEntity.noContent().build();
     }
@@ -99,7 +99,6 @@ public class UserController {
 //    public ResponseEntity<Void> addMark(
 //            @Valid @RequestBody UserUpdateRateRequest addMark
 //    ) {
-//        System.err.println("Request: POST /users/rate");
 //        userService.userUpdateRate(addMark);
 //        return ResponseEntity.ok().build();
 //    }
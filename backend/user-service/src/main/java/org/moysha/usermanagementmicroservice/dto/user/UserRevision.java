@@ -0,0 +1,17 @@
+package org.moysha.usermanagementmicroservice.dto.user;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Validators for {@code GET /users/{id}}, built from the versions of the account and its profile.
+ */
+public record UserRevision(String tag, OffsetDateTime modifiedAt) {
+
+    public String etag() {
+        return "\"" + tag + "\"";
+    }
+
+    public long lastModified() {
+        return modifiedAt.toInstant().toEpochMilli();
+    }
+}
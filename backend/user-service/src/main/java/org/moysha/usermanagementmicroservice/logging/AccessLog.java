@@ -0,0 +1,170 @@
+package org.moysha.usermanagementmicroservice.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.moysha.usermanagementmicroservice.configuration.AccessLogSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands access records from request threads to one writer thread. Request threads claim a slot in
+ * a fixed ring with a compare-and-set and never wait: when the ring is full the record is dropped
+ * and counted. The writer wakes every flush interval, passes everything queued to the sink and
+ * reports how many records were dropped since its last pass.
+ */
+@Component
+public class AccessLog implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessLog.class);
+    private static final Logger access = LoggerFactory.getLogger("access");
+
+    private final AccessLogSettings settings;
+    private final AccessLogSink sink;
+    private final AtomicReferenceArray<AccessRecord> slots;
+    private final int mask;
+    // tail is claimed by request threads, head only moves on the writer thread
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AccessLog(AccessLogSettings settings,
+                     ObjectProvider<AccessLogSink> sink,
+                     ObjectProvider<MeterRegistry> meterRegistry) {
+        this.settings = settings;
+        this.sink = sink.getIfAvailable(() -> AccessLog::write);
+        int capacity = Integer.highestOneBit(Math.max(2, settings.getBufferSize() - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        meterRegistry.ifAvailable(registry -> FunctionCounter.builder("access.log.dropped", dropped, LongAdder::sum)
+            .description("Access records dropped because the buffer was full")
+            .register(registry));
+    }
+
+    /**
+     * Queues the record if sampling keeps it. Returns false only when it was kept but the ring was
+     * full.
+     */
+    public boolean record(AccessRecord record) {
+        if (!settings.isEnabled() || !sampled(record)) {
+            return true;
+        }
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head > mask) {
+                dropped.increment();
+                return false;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+        slots.set((int) claimed & mask, record);
+        return true;
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Writes out everything queued so far and returns how many records were written. Only the
+     * writer thread calls this while the log is running.
+     */
+    int drain() {
+        int written = 0;
+        long next = head;
+        while (true) {
+            int index = (int) next & mask;
+            // a claimed slot stays empty until its producer stores the record
+            AccessRecord record = slots.get(index);
+            if (record == null) {
+                break;
+            }
+            slots.set(index, null);
+            head = ++next;
+            try {
+                sink.write(record);
+            } catch (RuntimeException e) {
+                log.warn("Access log sink failed", e);
+            }
+            written++;
+        }
+        return written;
+    }
+
+    @Override
+    public void start() {
+        if (!settings.isEnabled()) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::run, "access-log");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            try {
+                writer.join(settings.getFlushInterval().toMillis() + 1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        long nanos = settings.getFlushInterval().toNanos();
+        long reported = 0;
+        while (running) {
+            LockSupport.parkNanos(this, nanos);
+            drain();
+            long total = dropped.sum();
+            if (total > reported) {
+                log.warn("Access log buffer full, dropped {} records", total - reported);
+                reported = total;
+            }
+        }
+        drain();
+    }
+
+    private boolean sampled(AccessRecord record) {
+        if (record.status() >= 500 || record.latencyNanos() >= settings.getSlowThreshold().toNanos()) {
+            return true;
+        }
+        Map<String, Double> sampling = settings.getSampling();
+        Double rate = sampling.isEmpty() ? null : sampling.get(record.routeKey());
+        return rate == null || rate >= 1 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private static void write(AccessRecord record) {
+        access.atInfo()
+            .addKeyValue("method", record.method())
+            .addKeyValue("route", record.route())
+            .addKeyValue("status", record.status())
+            .addKeyValue("latency_ms", record.latencyMillis())
+            .addKeyValue("user_id", record.userId())
+            .addKeyValue("statements", record.statements())
+            .log("{} {} {} {}ms user={} statements={}", record.method(), record.route(), record.status(),
+                String.format(Locale.ROOT, "%.1f", record.latencyMillis()), record.userId(), record.statements());
+    }
+}
@@ -0,0 +1,59 @@
+package org.moysha.usermanagementmicroservice.logging;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Per-thread count of JDBC statements prepared through the application's data source. Readers take
+ * the difference between two readings, so the counter is never reset.
+ */
+public final class StatementCounter {
+
+    private static final Set<String> STATEMENT_METHODS = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    private StatementCounter() {
+    }
+
+    public static int current() {
+        return COUNT.get()[0];
+    }
+
+    public static DataSource counting(DataSource target) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return counting(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return counting(super.getConnection(username, password));
+            }
+        };
+    }
+
+    private static Connection counting(Connection target) {
+        InvocationHandler handler = (proxy, method, args) -> invoke(target, method, args);
+        return (Connection) Proxy.newProxyInstance(
+            StatementCounter.class.getClassLoader(), new Class<?>[] {Connection.class}, handler);
+    }
+
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        if (STATEMENT_METHODS.contains(method.getName())) {
+            COUNT.get()[0]++;
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
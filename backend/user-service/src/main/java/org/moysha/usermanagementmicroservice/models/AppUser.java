@@ -26,7 +26,8 @@ import java.time.OffsetDateTime;
 public class AppUser {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "app_user_id_seq")
+    @SequenceGenerator(name = "app_user_id_seq", sequenceName = "app_user_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Integer id;
 
@@ -47,4 +48,11 @@ public class AppUser {
     @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
     private OffsetDateTime createdAt;
 
+    // Maintained by the database on every update.
+    @Column(name = "version", insertable = false, updatable = false)
+    private Long version;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private OffsetDateTime updatedAt;
+
 }
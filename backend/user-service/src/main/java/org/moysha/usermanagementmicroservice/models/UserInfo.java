@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 
 @Data
 @Builder
@@ -22,7 +23,8 @@ import java.math.BigDecimal;
 public class UserInfo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_info_id_seq")
+    @SequenceGenerator(name = "user_info_id_seq", sequenceName = "user_info_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Integer id;
 
@@ -61,6 +63,13 @@ public class UserInfo {
     @Builder.Default
     private BigDecimal rate = BigDecimal.ZERO;
 
+    @Version
+    @Column(name = "version")
+    private Long version;
+
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private OffsetDateTime updatedAt;
+
 //    @Column(name = "rate_count", nullable = false)
 //    @Builder.Default
 //    private Integer rateCount = 0;
@@ -1,6 +1,7 @@
 package org.moysha.usermanagementmicroservice.repositories;
 
 import jakarta.transaction.Transactional;
+import org.moysha.usermanagementmicroservice.dto.user.UserRevision;
 import org.moysha.usermanagementmicroservice.models.AppUser;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -19,6 +20,15 @@ public interface UserRepository extends JpaRepository<AppUser, Integer> {
 
     Optional<AppUser> findByToken(String token);
 
+    @Query("""
+            SELECT new org.moysha.usermanagementmicroservice.dto.user.UserRevision(
+                concat(cast(u.version as String), '.', coalesce(cast(ui.version as String), '-')),
+                greatest(u.updatedAt, ui.updatedAt))
+            FROM AppUser u LEFT JOIN UserInfo ui ON ui.user = u
+            WHERE u.id = :id
+            """)
+    Optional<UserRevision> findRevision(Integer id);
+
 
 
     @Modifying
@@ -1,6 +1,7 @@
 package org.moysha.usermanagementmicroservice.services;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.moysha.usermanagementmicroservice.dto.YandexTokenRequest;
 import org.moysha.usermanagementmicroservice.dto.YandexUserInfo;
@@ -19,6 +20,7 @@ import org.springframework.web.client.RestTemplate;
 import java.time.OffsetDateTime;
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -36,7 +38,7 @@ public class AuthService {
 
         String email = yandexUserInfo.getDefaultEmail();
         if (email == null || email.isBlank()) {
-            System.err.println("Yandex user has no email: {}"+ yandexUserInfo);
+            log.warn("Yandex user has no email: {}", yandexUserInfo);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body("Email is required for login");
         }
@@ -46,7 +48,7 @@ public class AuthService {
 
         if (optionalUser.isEmpty()) {
             user = createUser(yandexUserInfo, request.getToken());
-            System.err.println("Created new user with email {}"+ email);
+            log.info("Created new user with email {}", email);
         } else {
             user = optionalUser.get();
 
@@ -58,7 +60,7 @@ public class AuthService {
 
             user.setToken(request.getToken());
             userRepository.save(user);
-            System.err.println("Updated token for user with email {}"+ email);
+            log.info("Updated token for user with email {}", email);
         }
 
         return ResponseEntity.ok("OK");
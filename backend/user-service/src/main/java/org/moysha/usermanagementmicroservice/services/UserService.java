@@ -18,6 +18,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -43,6 +44,10 @@ public class UserService {
         return toResponse(user, profile);
     }
 
+    public Optional<UserRevision> getRevision(Integer id) {
+        return userRepository.findRevision(id);
+    }
+
     public UserMeResponse getCurrentUser(AppUser user) {
         UserInfo profile = userInfoRepository.findByUserId(user.getId()).orElse(null);
         return new UserMeResponse(
@@ -0,0 +1,51 @@
+package org.moysha.usermanagementmicroservice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.moysha.usermanagementmicroservice.enums.UserRole;
+import org.moysha.usermanagementmicroservice.models.AppUser;
+import org.moysha.usermanagementmicroservice.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.micrometer.metrics.test.autoconfigure.AutoConfigureMetrics;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+class MetricsEndpointTest extends IntegrationTestBase {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void prometheusScrapeIsOpenAndExposesRequestPoolHibernateAndJvmMeters() throws Exception {
+        AppUser user = new AppUser();
+        user.setEmail("metrics@itmo.ru");
+        user.setToken("token-metrics");
+        user.setRole(UserRole.user);
+        userRepository.save(user);
+        mockMvc.perform(get("/users/me")
+                .header("X-Auth-Email", user.getEmail())
+                .header("X-Auth-Role", "user"))
+            .andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        assertThat(scrape)
+            .contains("http_server_requests_seconds_bucket{", "uri=\"/users/me\"")
+            .contains("hikaricp_connections_active{", "hikaricp_connections_acquire_seconds_bucket{")
+            .contains("hibernate_statements_total{", "hibernate_entities_loads_total{",
+                "hibernate_query_executions_max_seconds{")
+            .contains("jvm_memory_used_bytes{", "jvm_gc_memory_allocated_bytes_total{", "jvm_threads_live_threads{")
+            .contains("access_log_dropped_total{")
+            .contains("application=\"userManagementMicroService\"");
+    }
+}
@@ -0,0 +1,91 @@
+package org.moysha.usermanagementmicroservice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.moysha.usermanagementmicroservice.enums.UserRole;
+import org.moysha.usermanagementmicroservice.models.AppUser;
+import org.moysha.usermanagementmicroservice.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.micrometer.tracing.test.autoconfigure.AutoConfigureTracing;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@AutoConfigureMockMvc
+@AutoConfigureTracing
+@Import(TracingTest.InMemoryExport.class)
+@TestPropertySource(properties = {
+    "management.tracing.sampling.probability=1.0",
+    "management.tracing.export.otlp.enabled=false"
+})
+class TracingTest extends IntegrationTestBase {
+
+    private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+    private static final String PARENT_ID = "b7ad6b7169203331";
+    private static final InMemorySpanExporter SPANS = InMemorySpanExporter.create();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void requestTraceContinuesIncomingContextDownToJdbcStatements() throws Exception {
+        AppUser user = new AppUser();
+        user.setEmail("traced@itmo.ru");
+        user.setToken("token-traced");
+        user.setRole(UserRole.user);
+        userRepository.save(user);
+        SPANS.reset();
+
+        mockMvc.perform(get("/users/me")
+                .header("traceparent", "00-" + TRACE_ID + "-" + PARENT_ID + "-01")
+                .header("X-Auth-Email", user.getEmail())
+                .header("X-Auth-Role", "user"))
+            .andExpect(status().isOk());
+
+        List<SpanData> trace = SPANS.getFinishedSpanItems().stream()
+            .filter(span -> span.getTraceId().equals(TRACE_ID))
+            .toList();
+
+        SpanData http = trace.stream()
+            .filter(span -> span.getKind() == SpanKind.SERVER)
+            .findFirst().orElseThrow();
+        assertThat(http.getName()).isEqualTo("http get /users/me");
+        assertThat(http.getParentSpanId()).isEqualTo(PARENT_ID);
+
+        SpanData lookup = trace.stream()
+            .filter(span -> span.getName().equals("UserRepository.findByEmail"))
+            .findFirst().orElseThrow();
+        assertThat(lookup.getParentSpanId()).isNotEqualTo(PARENT_ID);
+
+        assertThat(trace).anySatisfy(span -> {
+            assertThat(span.getKind()).isEqualTo(SpanKind.CLIENT);
+            assertThat(span.getAttributes().get(AttributeKey.stringKey("db.system"))).isEqualTo("postgresql");
+            assertThat(span.getParentSpanId()).isEqualTo(lookup.getSpanId());
+        });
+    }
+
+    @TestConfiguration
+    static class InMemoryExport {
+
+        @Bean
+        SpanProcessor inMemorySpans() {
+            return SimpleSpanProcessor.create(SPANS);
+        }
+    }
+}
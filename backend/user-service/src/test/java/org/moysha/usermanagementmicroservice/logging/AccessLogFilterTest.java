@@ -0,0 +1,76 @@
+package org.moysha.usermanagementmicroservice.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.moysha.usermanagementmicroservice.IntegrationTestBase;
+import org.moysha.usermanagementmicroservice.configuration.AccessLogSettings;
+import org.moysha.usermanagementmicroservice.enums.UserRole;
+import org.moysha.usermanagementmicroservice.models.AppUser;
+import org.moysha.usermanagementmicroservice.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+class AccessLogFilterTest extends IntegrationTestBase {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<AccessRecord> written = new ArrayList<>();
+    private AccessLog accessLog;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("accessLogSink", (AccessLogSink) written::add);
+        accessLog = new AccessLog(new AccessLogSettings(), beans.getBeanProvider(AccessLogSink.class),
+            beans.getBeanProvider(MeterRegistry.class));
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+            .addFilters(new AccessLogFilter(accessLog))
+            .apply(springSecurity())
+            .build();
+    }
+
+    @Test
+    void recordsAuthenticatedUserAndRouteTemplate() throws Exception {
+        AppUser user = new AppUser();
+        user.setEmail("logged@itmo.ru");
+        user.setToken("token-logged");
+        user.setRole(UserRole.user);
+        user = userRepository.save(user);
+
+        mockMvc.perform(get("/users/me")
+                .header("X-Auth-Email", user.getEmail())
+                .header("X-Auth-Role", "user"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/users/{id}", user.getId()))
+            .andExpect(status().isForbidden());
+        accessLog.drain();
+
+        assertThat(written).hasSize(2);
+        AccessRecord me = written.get(0);
+        assertThat(me.routeKey()).isEqualTo("GET /users/me");
+        assertThat(me.status()).isEqualTo(200);
+        assertThat(me.userId()).isEqualTo(String.valueOf(user.getId()));
+        assertThat(me.statements()).isPositive();
+
+        AccessRecord anonymous = written.get(1);
+        assertThat(anonymous.route()).isEqualTo("/users/" + user.getId());
+        assertThat(anonymous.status()).isEqualTo(403);
+        assertThat(anonymous.userId()).isNull();
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.moysha.usermanagementmicroservice.IntegrationTestBase;
 import org.moysha.usermanagementmicroservice.dto.user.UserProfileRequest;
 import org.moysha.usermanagementmicroservice.dto.user.UserResponse;
+import org.moysha.usermanagementmicroservice.dto.user.UserRevision;
 import org.moysha.usermanagementmicroservice.enums.UserRole;
 import org.moysha.usermanagementmicroservice.models.AppUser;
 import org.moysha.usermanagementmicroservice.models.UserInfo;
@@ -108,6 +109,24 @@ class UserServiceTest extends IntegrationTestBase {
         assertThat(response.getSurname()).isNull();
     }
 
+    @Test
+    void revisionChangesWithProfileAndAccount() {
+        AppUser user = saveUser("user5@example.com", "token-5");
+        UserRevision initial = userService.getRevision(user.getId()).orElseThrow();
+        assertThat(initial.modifiedAt()).isNotNull();
+
+        userService.updateProfile(user.getId(), new UserProfileRequest(
+            "Илья", "Покалюхин", null, null, "ИТМО", null, null, null
+        ));
+        UserRevision withProfile = userService.getRevision(user.getId()).orElseThrow();
+        assertThat(withProfile.etag()).isNotEqualTo(initial.etag());
+        assertThat(userService.getRevision(user.getId()).orElseThrow()).isEqualTo(withProfile);
+
+        userService.updateRole(user.getId(), UserRole.moderator);
+        assertThat(userService.getRevision(user.getId()).orElseThrow().etag()).isNotEqualTo(withProfile.etag());
+        assertThat(userService.getRevision(-1)).isEmpty();
+    }
+
     private AppUser saveUser(String email, String token) {
         AppUser user = new AppUser();
         user.setEmail(email);
@@ -0,0 +1,56 @@
+BEGIN;
+
+ALTER TABLE service
+    ADD COLUMN IF NOT EXISTS version    BIGINT      NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ NOT NULL DEFAULT now();
+
+ALTER TABLE category
+    ADD COLUMN IF NOT EXISTS version    BIGINT      NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ NOT NULL DEFAULT now();
+
+ALTER TABLE feedback
+    ADD COLUMN IF NOT EXISTS version    BIGINT      NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ NOT NULL DEFAULT now();
+
+ALTER TABLE user_info
+    ADD COLUMN IF NOT EXISTS version    BIGINT      NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ NOT NULL DEFAULT now();
+
+-- роль и бан отдаются вместе с профилем в GET /users/{id}
+ALTER TABLE app_user
+    ADD COLUMN IF NOT EXISTS version    BIGINT      NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ NOT NULL DEFAULT now();
+
+-- версия строки для ETag: Hibernate увеличивает её сам (@Version),
+-- для остальных UPDATE (триггеры, bulk-запросы) — здесь
+CREATE OR REPLACE FUNCTION trg_touch_version()
+    RETURNS TRIGGER LANGUAGE plpgsql AS $$
+BEGIN
+    IF NEW.version = OLD.version THEN
+        NEW.version := OLD.version + 1;
+    END IF;
+    NEW.updated_at := now();
+    RETURN NEW;
+END$$;
+
+CREATE OR REPLACE TRIGGER t_service_touch_version
+    BEFORE UPDATE ON service
+    FOR EACH ROW EXECUTE FUNCTION trg_touch_version();
+
+CREATE OR REPLACE TRIGGER t_category_touch_version
+    BEFORE UPDATE ON category
+    FOR EACH ROW EXECUTE FUNCTION trg_touch_version();
+
+CREATE OR REPLACE TRIGGER t_feedback_touch_version
+    BEFORE UPDATE ON feedback
+    FOR EACH ROW EXECUTE FUNCTION trg_touch_version();
+
+CREATE OR REPLACE TRIGGER t_user_info_touch_version
+    BEFORE UPDATE ON user_info
+    FOR EACH ROW EXECUTE FUNCTION trg_touch_version();
+
+CREATE OR REPLACE TRIGGER t_app_user_touch_version
+    BEFORE UPDATE ON app_user
+    FOR EACH ROW EXECUTE FUNCTION trg_touch_version();
+
+COMMIT;
@@ -0,0 +1,14 @@
+BEGIN;
+
+-- Hibernate берёт id из последовательностей пачками по 50 (pooled optimizer, allocationSize = 50),
+-- поэтому шаг последовательности должен совпадать с allocationSize в сущностях обоих сервисов.
+-- Шаг меняется только там, где строки вставляет Hibernate. Каждый nextval() из DEFAULT тратит
+-- всю пачку, поэтому нативная загрузка услуг (ServiceIngestRepository) берёт id пачками сама.
+-- response и feedback пишутся только нативными upsert'ами, message — communication-service через
+-- DEFAULT, а жалобы создаются по одной: у них шаг остаётся 1, а сущности используют IDENTITY.
+ALTER SEQUENCE app_user_id_seq   INCREMENT BY 50;
+ALTER SEQUENCE user_info_id_seq  INCREMENT BY 50;
+ALTER SEQUENCE category_id_seq   INCREMENT BY 50;
+ALTER SEQUENCE service_id_seq    INCREMENT BY 50;
+
+COMMIT;
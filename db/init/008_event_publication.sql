@@ -0,0 +1,34 @@
+BEGIN;
+
+-- Журнал публикаций Spring Modulith (transactional outbox) для management-service.
+-- Таблица создаётся здесь, а не через ddl-auto: Hibernate сделал бы serialized_event
+-- VARCHAR(255), а событие длиннее 255 символов не поместилось бы.
+CREATE TABLE IF NOT EXISTS event_publication
+(
+    id                     UUID        NOT NULL PRIMARY KEY,
+    listener_id            TEXT        NOT NULL,
+    event_type             TEXT        NOT NULL,
+    serialized_event       TEXT        NOT NULL,
+    publication_date       TIMESTAMPTZ NOT NULL,
+    completion_date        TIMESTAMPTZ,
+    status                 VARCHAR(32),
+    completion_attempts    INT         NOT NULL DEFAULT 0,
+    last_resubmission_date TIMESTAMPTZ
+);
+
+-- отметка о завершении ищет публикацию по событию и слушателю
+CREATE INDEX IF NOT EXISTS event_publication_serialized_event_hash_idx
+    ON event_publication USING hash (serialized_event);
+
+-- незавершённые публикации переотправляются при старте; частичный индекс остаётся маленьким,
+-- пока слушатели успевают за потоком событий
+CREATE INDEX IF NOT EXISTS event_publication_incomplete_idx
+    ON event_publication (publication_date)
+    WHERE completion_date IS NULL;
+
+-- очистка завершённых публикаций пачками от самых старых
+CREATE INDEX IF NOT EXISTS event_publication_completed_idx
+    ON event_publication (completion_date)
+    WHERE completion_date IS NOT NULL;
+
+COMMIT;